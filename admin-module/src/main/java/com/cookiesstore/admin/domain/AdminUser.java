@@ -1,5 +1,6 @@
 package com.cookiesstore.admin.domain;
 
+import com.cookiesstore.common.persistence.IdAllocation;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
@@ -8,8 +9,10 @@ import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.regex.Pattern;
 import org.springframework.security.crypto.bcrypt.BCrypt;
 
@@ -25,7 +28,8 @@ public class AdminUser {
     private static final Pattern BCRYPT_PATTERN = Pattern.compile("^\\$2[aby]\\$\\d{2}\\$.+");
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "admin_users_id_seq")
+    @SequenceGenerator(name = "admin_users_id_seq", sequenceName = "admin_users_id_seq", allocationSize = IdAllocation.SIZE)
     private Long id;
 
     @Column(nullable = false, unique = true, length = 255)
@@ -45,7 +49,7 @@ public class AdminUser {
 
     @PrePersist
     void onCreate() {
-        Instant now = Instant.now();
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MICROS);
         this.createdAt = now;
         this.updatedAt = now;
     }
@@ -55,12 +59,20 @@ public class AdminUser {
         this.updatedAt = Instant.now();
     }
 
+    public static boolean isPasswordHash(String value) {
+        return value != null && BCRYPT_PATTERN.matcher(value).matches();
+    }
+
+    /**
+     * Stores a BCrypt hash as is. Raw passwords are hashed here at BCrypt's default cost, bypassing the
+     * configured one, so application code hashes through {@code PasswordHashingService} before calling this.
+     */
     public void setPassword(String rawPassword) {
         if (rawPassword == null || rawPassword.isBlank()) {
             throw new IllegalArgumentException("Password cannot be blank");
         }
 
-        if (BCRYPT_PATTERN.matcher(rawPassword).matches()) {
+        if (isPasswordHash(rawPassword)) {
             this.passwordHash = rawPassword;
         } else {
             this.passwordHash = BCrypt.hashpw(rawPassword, BCrypt.gensalt());
@@ -1,9 +1,15 @@
 package com.cookiesstore.admin.repository;
 
 import com.cookiesstore.admin.domain.AdminUser;
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface AdminUserRepository extends JpaRepository<AdminUser, Long> {
 
@@ -11,5 +17,48 @@ public interface AdminUserRepository extends JpaRepository<AdminUser, Long> {
 
     boolean existsByEmail(String email);
 
-    List<AdminUser> findByActiveTrueOrderByCreatedAtDesc();
+    @Query("""
+        select u from AdminUser u
+        where u.active = true
+          and exists (
+            select 1 from UserDomainAbility uda
+            where uda.userId = u.id and uda.domain.code = :domainCode and uda.granted = true
+          )
+        order by u.createdAt desc, u.id desc
+        """)
+    List<AdminUser> findActiveByDomainCode(@Param("domainCode") String domainCode, Pageable pageable);
+
+    @Query("""
+        select u from AdminUser u
+        where u.active = true
+          and exists (
+            select 1 from UserDomainAbility uda
+            where uda.userId = u.id and uda.domain.code = :domainCode and uda.granted = true
+          )
+          and (u.createdAt < :createdAt or (u.createdAt = :createdAt and u.id < :id))
+        order by u.createdAt desc, u.id desc
+        """)
+    List<AdminUser> findActiveByDomainCodeAfter(
+        @Param("domainCode") String domainCode,
+        @Param("createdAt") Instant createdAt,
+        @Param("id") Long id,
+        Pageable pageable
+    );
+
+    /**
+     * Swaps the hash only if it is still the one the caller verified, so a concurrent password change wins.
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+        update AdminUser u
+        set u.passwordHash = :newHash, u.updatedAt = :updatedAt
+        where u.id = :id and u.passwordHash = :currentHash
+        """)
+    int replacePasswordHash(
+        @Param("id") Long id,
+        @Param("currentHash") String currentHash,
+        @Param("newHash") String newHash,
+        @Param("updatedAt") Instant updatedAt
+    );
 }
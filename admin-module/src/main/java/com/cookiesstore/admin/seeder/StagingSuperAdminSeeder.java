@@ -2,6 +2,7 @@ package com.cookiesstore.admin.seeder;
 
 import com.cookiesstore.admin.domain.AdminUser;
 import com.cookiesstore.admin.repository.AdminUserRepository;
+import com.cookiesstore.admin.service.PasswordHashingService;
 import com.cookiesstore.common.authorization.domain.Ability;
 import com.cookiesstore.common.authorization.domain.Domain;
 import com.cookiesstore.common.authorization.domain.UserDomainAbility;
@@ -24,6 +25,7 @@ public class StagingSuperAdminSeeder implements CommandLineRunner {
     private final DomainRepository domainRepository;
     private final AbilityRepository abilityRepository;
     private final UserDomainAbilityRepository userDomainAbilityRepository;
+    private final PasswordHashingService passwordHashingService;
 
     @Value("${admin.bootstrap.super-admin.enabled:true}")
     private boolean enabled;
@@ -41,12 +43,14 @@ public class StagingSuperAdminSeeder implements CommandLineRunner {
         AdminUserRepository adminUserRepository,
         DomainRepository domainRepository,
         AbilityRepository abilityRepository,
-        UserDomainAbilityRepository userDomainAbilityRepository
+        UserDomainAbilityRepository userDomainAbilityRepository,
+        PasswordHashingService passwordHashingService
     ) {
         this.adminUserRepository = adminUserRepository;
         this.domainRepository = domainRepository;
         this.abilityRepository = abilityRepository;
         this.userDomainAbilityRepository = userDomainAbilityRepository;
+        this.passwordHashingService = passwordHashingService;
     }
 
     @Override
@@ -67,7 +71,7 @@ public class StagingSuperAdminSeeder implements CommandLineRunner {
             .orElseGet(AdminUser::new);
 
         adminUser.setEmail(email);
-        adminUser.setPassword(password);
+        adminUser.setPassword(AdminUser.isPasswordHash(password) ? password : passwordHashingService.hash(password));
         adminUser.setActive(true);
         adminUser = adminUserRepository.save(adminUser);
 
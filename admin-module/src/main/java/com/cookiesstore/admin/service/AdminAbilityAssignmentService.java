@@ -1,13 +1,16 @@
 package com.cookiesstore.admin.service;
 
-import com.cookiesstore.common.authorization.domain.Ability;
-import com.cookiesstore.common.authorization.domain.Domain;
 import com.cookiesstore.common.authorization.domain.UserDomainAbility;
+import com.cookiesstore.common.authorization.event.AuthorizationChangedEvent;
+import com.cookiesstore.common.authorization.registry.ReferenceDataRegistry;
 import com.cookiesstore.common.authorization.repository.AbilityRepository;
 import com.cookiesstore.common.authorization.repository.DomainRepository;
 import com.cookiesstore.common.authorization.repository.UserDomainAbilityRepository;
+import jakarta.persistence.EntityManager;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,45 +21,54 @@ public class AdminAbilityAssignmentService {
     private final UserDomainAbilityRepository userDomainAbilityRepository;
     private final DomainRepository domainRepository;
     private final AbilityRepository abilityRepository;
+    private final ReferenceDataRegistry referenceDataRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
 
     public AdminAbilityAssignmentService(
         UserDomainAbilityRepository userDomainAbilityRepository,
         DomainRepository domainRepository,
-        AbilityRepository abilityRepository
+        AbilityRepository abilityRepository,
+        ReferenceDataRegistry referenceDataRegistry,
+        ApplicationEventPublisher eventPublisher,
+        EntityManager entityManager
     ) {
         this.userDomainAbilityRepository = userDomainAbilityRepository;
         this.domainRepository = domainRepository;
         this.abilityRepository = abilityRepository;
+        this.referenceDataRegistry = referenceDataRegistry;
+        this.eventPublisher = eventPublisher;
+        this.entityManager = entityManager;
     }
 
     public void assignAbility(Long grantedByUserId, Long targetUserId, String domainCode, String abilityCode) {
-        Domain domain = domainRepository.findByCode(domainCode)
-            .orElseThrow(() -> new IllegalArgumentException("Domain not found: " + domainCode));
-        Ability ability = abilityRepository.findByCode(abilityCode)
-            .orElseThrow(() -> new IllegalArgumentException("Ability not found: " + abilityCode));
+        Long domainId = requireDomainId(domainCode);
+        Long abilityId = requireAbilityId(abilityCode);
 
         UserDomainAbility assignment = userDomainAbilityRepository
-            .findByUserIdAndDomainCodeAndAbilityCode(targetUserId, domainCode, abilityCode)
+            .findByUserIdAndDomainIdAndAbilityId(targetUserId, domainId, abilityId)
             .orElseGet(UserDomainAbility::new);
 
         assignment.setUserId(targetUserId);
-        assignment.setDomain(domain);
-        assignment.setAbility(ability);
+        assignment.setDomain(domainRepository.getReferenceById(domainId));
+        assignment.setAbility(abilityRepository.getReferenceById(abilityId));
         assignment.setGranted(true);
         assignment.setGrantedBy(grantedByUserId);
 
         userDomainAbilityRepository.save(assignment);
+        eventPublisher.publishEvent(AuthorizationChangedEvent.forDomain(targetUserId, domainCode));
     }
 
+    /**
+     * Makes {@code abilityCode} the only active grant of the user in the domain; {@link #assignAbility} publishes
+     * the change for the pair.
+     */
     public void setSingleRole(Long actorUserId, Long targetUserId, String domainCode, String abilityCode) {
-        for (UserDomainAbility assignment : userDomainAbilityRepository.findByUserIdAndDomainCodeAndGrantedTrue(targetUserId, domainCode)) {
-            if (!assignment.getAbility().getCode().equals(abilityCode)) {
-                assignment.setGranted(false);
-                assignment.setGrantedBy(actorUserId);
-                userDomainAbilityRepository.save(assignment);
-            }
-        }
-
+        Long domainId = requireDomainId(domainCode);
+        List<UserDomainAbility> revoked = userDomainAbilityRepository
+            .findByUserIdAndDomainIdAndGrantedTrue(targetUserId, domainId);
+        userDomainAbilityRepository.revokeOtherGrantsInDomain(targetUserId, domainId, requireAbilityId(abilityCode), actorUserId);
+        evict(revoked);
         assignAbility(actorUserId, targetUserId, domainCode, abilityCode);
     }
 
@@ -76,6 +88,7 @@ public class AdminAbilityAssignmentService {
         assignment.setGranted(false);
         assignment.setGrantedBy(actorUserId);
         userDomainAbilityRepository.save(assignment);
+        eventPublisher.publishEvent(AuthorizationChangedEvent.forDomain(targetUserId, domainCode));
     }
 
     public Set<String> listAbilityCodes(Long userId, String domainCode) {
@@ -85,10 +98,42 @@ public class AdminAbilityAssignmentService {
             .collect(Collectors.toSet());
     }
 
-    public void revokeAllAbilitiesForUser(Long userId) {
-        for (UserDomainAbility assignment : userDomainAbilityRepository.findByUserIdAndGrantedTrue(userId)) {
-            assignment.setGranted(false);
-            userDomainAbilityRepository.save(assignment);
+    /**
+     * Revokes every active grant of the user with one UPDATE and returns the (userId, domainCode) pairs that held
+     * grants beforehand. The UPDATE is not limited to those domains, and the published event is user-wide, so a
+     * grant committed in another domain between the two statements is revoked and evicted as well.
+     */
+    public List<AuthorizationChangedEvent> revokeAllAbilitiesForUser(Long userId) {
+        List<UserDomainAbility> grants = userDomainAbilityRepository.findActiveGrantsWithDomain(userId);
+        List<AuthorizationChangedEvent> affected = grants.stream()
+            .map(grant -> grant.getDomain().getCode())
+            .distinct()
+            .map(domainCode -> AuthorizationChangedEvent.forDomain(userId, domainCode))
+            .toList();
+
+        int revoked = userDomainAbilityRepository.revokeAllGrants(userId);
+        evict(grants);
+        if (revoked > 0 || !affected.isEmpty()) {
+            eventPublisher.publishEvent(AuthorizationChangedEvent.forUser(userId));
         }
+        return affected;
+    }
+
+    /**
+     * Detaches the grants a bulk UPDATE just changed, so later reads in the transaction load their new state.
+     * Only those rows are evicted: clearing the whole context would detach entities the caller still uses.
+     */
+    private void evict(List<UserDomainAbility> grants) {
+        grants.forEach(entityManager::detach);
+    }
+
+    private Long requireDomainId(String domainCode) {
+        return referenceDataRegistry.domainId(domainCode)
+            .orElseThrow(() -> new IllegalArgumentException("Domain not found: " + domainCode));
+    }
+
+    private Long requireAbilityId(String abilityCode) {
+        return referenceDataRegistry.abilityId(abilityCode)
+            .orElseThrow(() -> new IllegalArgumentException("Ability not found: " + abilityCode));
     }
 }
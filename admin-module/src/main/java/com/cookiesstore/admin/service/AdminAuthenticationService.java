@@ -2,9 +2,11 @@ package com.cookiesstore.admin.service;
 
 import com.cookiesstore.admin.domain.AdminUser;
 import com.cookiesstore.admin.repository.AdminUserRepository;
-import com.cookiesstore.common.auth.JwtTokenProvider;
+import com.cookiesstore.common.refresh.RefreshTokenService;
+import com.cookiesstore.common.refresh.TokenPair;
+import com.cookiesstore.common.throttle.LoginAttemptLimiter;
+import java.time.Instant;
 import java.util.Optional;
-import org.springframework.security.crypto.bcrypt.BCrypt;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 
@@ -12,18 +14,33 @@ import org.springframework.util.StringUtils;
 public class AdminAuthenticationService {
 
     private final AdminUserRepository adminUserRepository;
-    private final JwtTokenProvider jwtTokenProvider;
+    private final RefreshTokenService refreshTokenService;
+    private final PasswordHashingService passwordHashingService;
+    private final LoginAttemptLimiter loginAttemptLimiter;
 
-    public AdminAuthenticationService(AdminUserRepository adminUserRepository, JwtTokenProvider jwtTokenProvider) {
+    public AdminAuthenticationService(
+        AdminUserRepository adminUserRepository,
+        RefreshTokenService refreshTokenService,
+        PasswordHashingService passwordHashingService,
+        LoginAttemptLimiter loginAttemptLimiter
+    ) {
         this.adminUserRepository = adminUserRepository;
-        this.jwtTokenProvider = jwtTokenProvider;
+        this.refreshTokenService = refreshTokenService;
+        this.passwordHashingService = passwordHashingService;
+        this.loginAttemptLimiter = loginAttemptLimiter;
     }
 
-    public Optional<String> authenticate(String email, String rawPassword) {
+    public Optional<TokenPair> authenticate(String email, String rawPassword) {
+        return authenticate(email, rawPassword, null);
+    }
+
+    public Optional<TokenPair> authenticate(String email, String rawPassword, String clientIp) {
         if (!StringUtils.hasText(email) || !StringUtils.hasText(rawPassword)) {
             return Optional.empty();
         }
 
+        loginAttemptLimiter.checkAttempt(email, clientIp);
+
         Optional<AdminUser> userOpt = adminUserRepository.findByEmail(email);
         if (userOpt.isEmpty()) {
             return Optional.empty();
@@ -34,10 +51,20 @@ public class AdminAuthenticationService {
             return Optional.empty();
         }
 
-        if (!BCrypt.checkpw(rawPassword, user.getPasswordHash())) {
+        if (!passwordHashingService.matches(rawPassword, user.getPasswordHash())) {
             return Optional.empty();
         }
 
-        return Optional.of(jwtTokenProvider.generateToken(user.getId()));
+        if (passwordHashingService.needsRehash(user.getPasswordHash())) {
+            Long userId = user.getId();
+            String currentHash = user.getPasswordHash();
+            passwordHashingService.rehashInBackground(
+                rawPassword,
+                newHash -> adminUserRepository.replacePasswordHash(userId, currentHash, newHash, Instant.now())
+            );
+        }
+
+        loginAttemptLimiter.recordSuccess(email);
+        return Optional.of(refreshTokenService.issue(user.getId()));
     }
 }
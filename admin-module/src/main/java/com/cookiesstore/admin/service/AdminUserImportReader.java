@@ -0,0 +1,161 @@
+package com.cookiesstore.admin.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+
+/**
+ * Streams import rows one line at a time, so a large upload never sits fully in memory.
+ *
+ * <p>CSV input needs an {@code email,password,roleCode} header; fields may be double-quoted. NDJSON input is one
+ * object per line with the same property names. Rows that cannot be parsed come back with null fields and are
+ * rejected by the import rather than aborting it.
+ */
+public final class AdminUserImportReader implements Iterator<AdminUserImportRow> {
+
+    public enum Format {
+        CSV,
+        NDJSON
+    }
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final BufferedReader reader;
+    private final Format format;
+    private int[] columns;
+    private int lineNumber;
+    private AdminUserImportRow next;
+
+    private AdminUserImportReader(Reader reader, Format format) {
+        this.reader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+        this.format = format;
+    }
+
+    public static AdminUserImportReader open(Reader reader, Format format) {
+        return new AdminUserImportReader(reader, format);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            next = readNext();
+        }
+        return next != null;
+    }
+
+    @Override
+    public AdminUserImportRow next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        AdminUserImportRow row = next;
+        next = null;
+        return row;
+    }
+
+    private AdminUserImportRow readNext() {
+        String line;
+        while ((line = readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            if (format == Format.NDJSON) {
+                return parseJson(line);
+            }
+            if (columns == null) {
+                columns = parseHeader(line);
+                continue;
+            }
+            return parseCsv(line);
+        }
+        return null;
+    }
+
+    private AdminUserImportRow parseJson(String line) {
+        try {
+            JsonNode node = OBJECT_MAPPER.readTree(line);
+            return new AdminUserImportRow(lineNumber, text(node, "email"), text(node, "password"), text(node, "roleCode"));
+        } catch (IOException ex) {
+            return new AdminUserImportRow(lineNumber, null, null, null);
+        }
+    }
+
+    private static String text(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+
+    private AdminUserImportRow parseCsv(String line) {
+        List<String> fields = splitCsv(line);
+        return new AdminUserImportRow(lineNumber, field(fields, columns[0]), field(fields, columns[1]), field(fields, columns[2]));
+    }
+
+    private static String field(List<String> fields, int index) {
+        return index < fields.size() ? fields.get(index).trim() : null;
+    }
+
+    private int[] parseHeader(String line) {
+        List<String> header = splitCsv(line);
+        int[] indexes = {-1, -1, -1};
+        for (int i = 0; i < header.size(); i++) {
+            switch (header.get(i).trim().toLowerCase(Locale.ROOT)) {
+                case "email" -> indexes[0] = i;
+                case "password" -> indexes[1] = i;
+                case "rolecode", "role_code", "role" -> indexes[2] = i;
+                default -> {
+                }
+            }
+        }
+        for (int index : indexes) {
+            if (index < 0) {
+                throw new IllegalArgumentException("CSV header must contain email, password and roleCode columns");
+            }
+        }
+        return indexes;
+    }
+
+    static List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+
+    private String readLine() {
+        try {
+            return reader.readLine();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
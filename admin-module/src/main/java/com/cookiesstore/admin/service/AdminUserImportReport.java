@@ -0,0 +1,20 @@
+package com.cookiesstore.admin.service;
+
+import java.util.List;
+
+public record AdminUserImportReport(int created, int duplicates, int rejected, List<AdminUserImportResult> results) {
+
+    static AdminUserImportReport of(List<AdminUserImportResult> results) {
+        int created = 0;
+        int duplicates = 0;
+        int rejected = 0;
+        for (AdminUserImportResult result : results) {
+            switch (result.status()) {
+                case CREATED -> created++;
+                case DUPLICATE -> duplicates++;
+                case REJECTED -> rejected++;
+            }
+        }
+        return new AdminUserImportReport(created, duplicates, rejected, List.copyOf(results));
+    }
+}
@@ -0,0 +1,22 @@
+package com.cookiesstore.admin.service;
+
+public record AdminUserImportResult(int line, String email, Status status, Long userId, String message) {
+
+    public enum Status {
+        CREATED,
+        DUPLICATE,
+        REJECTED
+    }
+
+    static AdminUserImportResult created(AdminUserImportRow row, Long userId) {
+        return new AdminUserImportResult(row.line(), row.email(), Status.CREATED, userId, null);
+    }
+
+    static AdminUserImportResult duplicate(AdminUserImportRow row) {
+        return new AdminUserImportResult(row.line(), row.email(), Status.DUPLICATE, null, "Email already exists");
+    }
+
+    static AdminUserImportResult rejected(AdminUserImportRow row, String message) {
+        return new AdminUserImportResult(row.line(), row.email(), Status.REJECTED, null, message);
+    }
+}
@@ -0,0 +1,4 @@
+package com.cookiesstore.admin.service;
+
+public record AdminUserImportRow(int line, String email, String password, String roleCode) {
+}
@@ -0,0 +1,254 @@
+package com.cookiesstore.admin.service;
+
+import com.cookiesstore.admin.domain.AdminUser;
+import com.cookiesstore.common.authorization.event.AuthorizationChangedEvent;
+import com.cookiesstore.common.authorization.registry.ReferenceDataRegistry;
+import com.cookiesstore.common.persistence.IdAllocation;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+/**
+ * Provisions many admin users into one domain. Rows are processed in chunks: one query finds emails that
+ * already exist, the remaining passwords are hashed in parallel, and users plus their role grants are written
+ * with JDBC batch inserts in one transaction per chunk. Rows past {@code admin.users.import.max-rows} are not read;
+ * the report ends with one rejection saying where the import stopped.
+ */
+@Service
+public class AdminUserImportService {
+
+    private static final Pattern EMAIL_PATTERN = Pattern.compile("^[^@\\s]+@[^@\\s]+\\.[^@\\s]+$");
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ReferenceDataRegistry referenceDataRegistry;
+    private final PasswordHashingService passwordHashingService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int chunkSize;
+    private final int maxRows;
+
+    public AdminUserImportService(
+        NamedParameterJdbcTemplate jdbcTemplate,
+        PlatformTransactionManager transactionManager,
+        ReferenceDataRegistry referenceDataRegistry,
+        PasswordHashingService passwordHashingService,
+        ApplicationEventPublisher eventPublisher,
+        @Value("${admin.users.import.chunk-size:500}") int chunkSize,
+        @Value("${admin.users.import.max-rows:10000}") int maxRows
+    ) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("admin.users.import.chunk-size must be positive: " + chunkSize);
+        }
+        if (maxRows <= 0) {
+            throw new IllegalArgumentException("admin.users.import.max-rows must be positive: " + maxRows);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.referenceDataRegistry = referenceDataRegistry;
+        this.passwordHashingService = passwordHashingService;
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = chunkSize;
+        this.maxRows = maxRows;
+    }
+
+    public AdminUserImportReport importAdminUsers(Long actorUserId, String domainCode, Iterator<AdminUserImportRow> rows) {
+        Long domainId = referenceDataRegistry.domainId(domainCode)
+            .orElseThrow(() -> new IllegalArgumentException("Domain not found: " + domainCode));
+
+        Map<String, Optional<Long>> abilityIds = new HashMap<>();
+        Set<String> seenEmails = new HashSet<>();
+        List<AdminUserImportResult> results = new ArrayList<>();
+        List<AdminUserImportRow> chunk = new ArrayList<>(chunkSize);
+        int read = 0;
+
+        while (rows.hasNext()) {
+            AdminUserImportRow row = rows.next();
+            if (++read > maxRows) {
+                results.add(AdminUserImportResult.rejected(
+                    row,
+                    "Import is limited to " + maxRows + " rows; this row and the following ones were not processed"
+                ));
+                break;
+            }
+            String problem = validate(row, abilityIds);
+            if (problem != null) {
+                results.add(AdminUserImportResult.rejected(row, problem));
+            } else if (!seenEmails.add(row.email())) {
+                results.add(AdminUserImportResult.rejected(row, "Email appears more than once in this import"));
+            } else {
+                chunk.add(row);
+                if (chunk.size() >= chunkSize) {
+                    results.addAll(importChunk(actorUserId, domainId, domainCode, abilityIds, chunk));
+                    chunk.clear();
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            results.addAll(importChunk(actorUserId, domainId, domainCode, abilityIds, chunk));
+        }
+
+        results.sort((left, right) -> Integer.compare(left.line(), right.line()));
+        return AdminUserImportReport.of(results);
+    }
+
+    private String validate(AdminUserImportRow row, Map<String, Optional<Long>> abilityIds) {
+        if (!StringUtils.hasText(row.email()) || row.email().length() > 255 || !EMAIL_PATTERN.matcher(row.email()).matches()) {
+            return "Invalid email";
+        }
+        if (!StringUtils.hasText(row.password())) {
+            return "Password is required";
+        }
+        if (!StringUtils.hasText(row.roleCode())) {
+            return "Role is required";
+        }
+        Optional<Long> abilityId = abilityIds.computeIfAbsent(row.roleCode(), referenceDataRegistry::abilityId);
+        return abilityId.isPresent() ? null : "Unknown role: " + row.roleCode();
+    }
+
+    private List<AdminUserImportResult> importChunk(
+        Long actorUserId,
+        Long domainId,
+        String domainCode,
+        Map<String, Optional<Long>> abilityIds,
+        List<AdminUserImportRow> chunk
+    ) {
+        List<AdminUserImportResult> results = new ArrayList<>(chunk.size());
+        Set<String> existing = findExistingEmails(chunk.stream().map(AdminUserImportRow::email).toList());
+
+        List<AdminUserImportRow> accepted = new ArrayList<>(chunk.size());
+        for (AdminUserImportRow row : chunk) {
+            if (existing.contains(row.email())) {
+                results.add(AdminUserImportResult.duplicate(row));
+            } else {
+                accepted.add(row);
+            }
+        }
+        if (accepted.isEmpty()) {
+            return results;
+        }
+
+        List<String> hashes = hashPasswords(accepted);
+
+        try {
+            Map<String, Long> userIds = transactionTemplate.execute(status ->
+                insertChunk(actorUserId, domainId, domainCode, abilityIds, accepted, hashes)
+            );
+            for (AdminUserImportRow row : accepted) {
+                results.add(AdminUserImportResult.created(row, userIds.get(row.email())));
+            }
+        } catch (DataIntegrityViolationException ex) {
+            for (AdminUserImportRow row : accepted) {
+                results.add(AdminUserImportResult.rejected(row, "Chunk rolled back: conflicting concurrent write"));
+            }
+        }
+        return results;
+    }
+
+    private Map<String, Long> insertChunk(
+        Long actorUserId,
+        Long domainId,
+        String domainCode,
+        Map<String, Optional<Long>> abilityIds,
+        List<AdminUserImportRow> rows,
+        List<String> hashes
+    ) {
+        Timestamp now = Timestamp.from(Instant.now().truncatedTo(ChronoUnit.MICROS));
+
+        List<Long> newUserIds = allocateIds("admin_users_id_seq", rows.size());
+        Map<String, Long> userIds = new HashMap<>();
+        SqlParameterSource[] users = new SqlParameterSource[rows.size()];
+        for (int i = 0; i < rows.size(); i++) {
+            AdminUserImportRow row = rows.get(i);
+            userIds.put(row.email(), newUserIds.get(i));
+            users[i] = new MapSqlParameterSource()
+                .addValue("id", newUserIds.get(i))
+                .addValue("email", row.email())
+                .addValue("passwordHash", hashes.get(i))
+                .addValue("now", now);
+        }
+        jdbcTemplate.batchUpdate("""
+            insert into admin_users (id, email, password_hash, active, created_at, updated_at)
+            values (:id, :email, :passwordHash, true, :now, :now)
+            """, users);
+
+        List<Long> grantIds = allocateIds("user_domain_abilities_id_seq", rows.size());
+        SqlParameterSource[] grants = new SqlParameterSource[rows.size()];
+        for (int i = 0; i < rows.size(); i++) {
+            AdminUserImportRow row = rows.get(i);
+            grants[i] = new MapSqlParameterSource()
+                .addValue("id", grantIds.get(i))
+                .addValue("userId", newUserIds.get(i))
+                .addValue("domainId", domainId)
+                .addValue("abilityId", abilityIds.get(row.roleCode()).orElseThrow())
+                .addValue("grantedBy", actorUserId)
+                .addValue("now", now);
+        }
+        jdbcTemplate.batchUpdate("""
+            insert into user_domain_abilities (id, user_id, domain_id, ability_id, granted, granted_by, created_at)
+            values (:id, :userId, :domainId, :abilityId, true, :grantedBy, :now)
+            """, grants);
+
+        for (Long userId : userIds.values()) {
+            eventPublisher.publishEvent(AuthorizationChangedEvent.forDomain(userId, domainCode));
+        }
+        return userIds;
+    }
+
+    /**
+     * Reserves ids the way Hibernate's pooled optimizer does: each {@code nextval} owns the block of
+     * {@link IdAllocation#SIZE} ids ending at the returned value, so these rows never collide with entity inserts.
+     */
+    private List<Long> allocateIds(String sequenceName, int count) {
+        List<Long> ids = new ArrayList<>(count);
+        while (ids.size() < count) {
+            Long high = jdbcTemplate.getJdbcTemplate().queryForObject("select nextval('" + sequenceName + "')", Long.class);
+            for (long id = Math.max(1L, high - IdAllocation.SIZE + 1); id <= high && ids.size() < count; id++) {
+                ids.add(id);
+            }
+        }
+        return ids;
+    }
+
+    private List<String> hashPasswords(List<AdminUserImportRow> rows) {
+        List<String> raw = new ArrayList<>();
+        for (AdminUserImportRow row : rows) {
+            if (!AdminUser.isPasswordHash(row.password())) {
+                raw.add(row.password());
+            }
+        }
+
+        Iterator<String> hashed = passwordHashingService.hashAll(raw).iterator();
+        List<String> hashes = new ArrayList<>(rows.size());
+        for (AdminUserImportRow row : rows) {
+            hashes.add(AdminUser.isPasswordHash(row.password()) ? row.password() : hashed.next());
+        }
+        return hashes;
+    }
+
+    private Set<String> findExistingEmails(List<String> emails) {
+        return new HashSet<>(jdbcTemplate.queryForList(
+            "select email from admin_users where email in (:emails)",
+            new MapSqlParameterSource("emails", emails),
+            String.class
+        ));
+    }
+}
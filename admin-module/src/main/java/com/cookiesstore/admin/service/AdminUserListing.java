@@ -0,0 +1,9 @@
+package com.cookiesstore.admin.service;
+
+import com.cookiesstore.admin.domain.AdminUser;
+
+/**
+ * An active admin user of a domain together with its primary role (alphabetically first ability), or {@code null}.
+ */
+public record AdminUserListing(AdminUser user, String primaryRoleCode) {
+}
@@ -0,0 +1,13 @@
+package com.cookiesstore.admin.service;
+
+import java.util.List;
+
+/**
+ * One keyset page of {@link AdminUserListing}s; {@code nextCursor} is {@code null} on the last page.
+ */
+public record AdminUserPage(List<AdminUserListing> users, String nextCursor, int size) {
+
+    public boolean hasMore() {
+        return nextCursor != null;
+    }
+}
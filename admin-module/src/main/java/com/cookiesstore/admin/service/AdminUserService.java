@@ -2,84 +2,104 @@ package com.cookiesstore.admin.service;
 
 import com.cookiesstore.admin.domain.AdminUser;
 import com.cookiesstore.admin.repository.AdminUserRepository;
-import com.cookiesstore.common.authorization.domain.Ability;
-import com.cookiesstore.common.authorization.domain.Domain;
-import com.cookiesstore.common.authorization.domain.Permission;
-import com.cookiesstore.common.authorization.domain.UserDomainAbility;
+import com.cookiesstore.common.api.KeysetCursor;
+import com.cookiesstore.common.auth.UserTokensRevokedEvent;
 import com.cookiesstore.common.authorization.domain.UserDomainPermissionOverride;
-import com.cookiesstore.common.authorization.repository.AbilityRepository;
+import com.cookiesstore.common.authorization.event.AuthorizationChangedEvent;
+import com.cookiesstore.common.authorization.registry.ReferenceData.RoleDefinition;
+import com.cookiesstore.common.authorization.registry.ReferenceDataRegistry;
 import com.cookiesstore.common.authorization.repository.DomainRepository;
 import com.cookiesstore.common.authorization.repository.PermissionRepository;
+import com.cookiesstore.common.authorization.repository.UserAbilityCodeRow;
 import com.cookiesstore.common.authorization.repository.UserDomainAbilityRepository;
 import com.cookiesstore.common.authorization.repository.UserDomainPermissionOverrideRepository;
 import com.cookiesstore.common.authorization.service.DomainAuthorizationService;
-import java.util.ArrayList;
-import java.util.LinkedHashSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.StringUtils;
 
 @Service
 @Transactional
 public class AdminUserService {
 
+    static final int MAX_PAGE_SIZE = 200;
+
     private final AdminUserRepository adminUserRepository;
     private final AdminAbilityAssignmentService abilityAssignmentService;
-    private final AbilityRepository abilityRepository;
     private final DomainRepository domainRepository;
     private final PermissionRepository permissionRepository;
     private final UserDomainPermissionOverrideRepository overrideRepository;
     private final UserDomainAbilityRepository userDomainAbilityRepository;
     private final DomainAuthorizationService domainAuthorizationService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PasswordHashingService passwordHashingService;
+    private final ReferenceDataRegistry referenceDataRegistry;
+    private final TransactionTemplate transactionTemplate;
+    private final int defaultPageSize;
 
     public AdminUserService(
         AdminUserRepository adminUserRepository,
         AdminAbilityAssignmentService abilityAssignmentService,
-        AbilityRepository abilityRepository,
         DomainRepository domainRepository,
         PermissionRepository permissionRepository,
         UserDomainPermissionOverrideRepository overrideRepository,
         UserDomainAbilityRepository userDomainAbilityRepository,
-        DomainAuthorizationService domainAuthorizationService
+        DomainAuthorizationService domainAuthorizationService,
+        ApplicationEventPublisher eventPublisher,
+        PasswordHashingService passwordHashingService,
+        ReferenceDataRegistry referenceDataRegistry,
+        PlatformTransactionManager transactionManager,
+        @Value("${admin.users.page-size:50}") int defaultPageSize
     ) {
+        if (defaultPageSize <= 0 || defaultPageSize > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("admin.users.page-size must be between 1 and " + MAX_PAGE_SIZE);
+        }
         this.adminUserRepository = adminUserRepository;
         this.abilityAssignmentService = abilityAssignmentService;
-        this.abilityRepository = abilityRepository;
         this.domainRepository = domainRepository;
         this.permissionRepository = permissionRepository;
         this.overrideRepository = overrideRepository;
         this.userDomainAbilityRepository = userDomainAbilityRepository;
         this.domainAuthorizationService = domainAuthorizationService;
+        this.eventPublisher = eventPublisher;
+        this.passwordHashingService = passwordHashingService;
+        this.referenceDataRegistry = referenceDataRegistry;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.defaultPageSize = defaultPageSize;
     }
 
+    /**
+     * Hashes before opening a transaction: waiting for the hashing pool must not hold a pooled connection.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public AdminUser createAdminUser(String email, String rawPassword) {
-        if (adminUserRepository.existsByEmail(email)) {
-            throw new IllegalArgumentException("Admin user with email already exists: " + email);
-        }
-
-        AdminUser adminUser = new AdminUser();
-        adminUser.setEmail(email);
-        adminUser.setPassword(rawPassword);
-        adminUser.setActive(true);
-        return adminUserRepository.save(adminUser);
+        String passwordHash = encodePassword(rawPassword);
+        return transactionTemplate.execute(status -> insertAdminUser(email, passwordHash));
     }
 
+    @Transactional(propagation = Propagation.SUPPORTS)
     public AdminUser createAdminUserWithRole(Long actorUserId, String email, String rawPassword, String roleCode) {
-        AdminUser created = createAdminUser(email, rawPassword);
-        String actorDomainCode = resolvePrimaryDomainCode(actorUserId)
-            .orElseThrow(() -> new IllegalArgumentException("Current user has no assigned domain"));
-        abilityAssignmentService.setSingleRole(actorUserId, created.getId(), actorDomainCode, roleCode);
-        return created;
-    }
-
-    @Transactional(readOnly = true)
-    public List<AdminUser> listActiveAdminUsers() {
-        return adminUserRepository.findByActiveTrueOrderByCreatedAtDesc();
+        String passwordHash = encodePassword(rawPassword);
+        return transactionTemplate.execute(status -> {
+            AdminUser created = insertAdminUser(email, passwordHash);
+            String actorDomainCode = resolvePrimaryDomainCode(actorUserId)
+                .orElseThrow(() -> new IllegalArgumentException("Current user has no assigned domain"));
+            abilityAssignmentService.setSingleRole(actorUserId, created.getId(), actorDomainCode, roleCode);
+            return created;
+        });
     }
 
     @Transactional(readOnly = true)
@@ -87,30 +107,23 @@ public class AdminUserService {
         return ensureAdminUserExists(userId);
     }
 
+    @Transactional(propagation = Propagation.SUPPORTS)
     public AdminUser updateAdminUser(Long userId, String email, String rawPassword) {
-        AdminUser adminUser = ensureAdminUserExists(userId);
-
-        if (StringUtils.hasText(email) && !email.equals(adminUser.getEmail())) {
-            if (adminUserRepository.existsByEmail(email)) {
-                throw new IllegalArgumentException("Admin user with email already exists: " + email);
-            }
-            adminUser.setEmail(email);
-        }
-
-        if (StringUtils.hasText(rawPassword)) {
-            adminUser.setPassword(rawPassword);
-        }
-
-        return adminUserRepository.save(adminUser);
+        String passwordHash = encodePassword(rawPassword);
+        return transactionTemplate.execute(status -> applyAdminUserUpdate(userId, email, passwordHash));
     }
 
+    @Transactional(propagation = Propagation.SUPPORTS)
     public AdminUser updateAdminUserWithRole(Long actorUserId, Long userId, String email, String rawPassword, String roleCode) {
-        AdminUser updated = updateAdminUser(userId, email, rawPassword);
-        String targetDomainCode = resolvePrimaryDomainCode(userId)
-            .or(() -> resolvePrimaryDomainCode(actorUserId))
-            .orElseThrow(() -> new IllegalArgumentException("Cannot resolve domain for user role assignment"));
-        abilityAssignmentService.setSingleRole(actorUserId, userId, targetDomainCode, roleCode);
-        return updated;
+        String passwordHash = encodePassword(rawPassword);
+        return transactionTemplate.execute(status -> {
+            AdminUser updated = applyAdminUserUpdate(userId, email, passwordHash);
+            String targetDomainCode = resolvePrimaryDomainCode(userId)
+                .or(() -> resolvePrimaryDomainCode(actorUserId))
+                .orElseThrow(() -> new IllegalArgumentException("Cannot resolve domain for user role assignment"));
+            abilityAssignmentService.setSingleRole(actorUserId, userId, targetDomainCode, roleCode);
+            return updated;
+        });
     }
 
     public void assignAbility(Long actorUserId, Long targetUserId, String domainCode, String abilityCode) {
@@ -132,38 +145,60 @@ public class AdminUserService {
     ) {
         ensureAdminUserExists(targetUserId);
 
-        Domain domain = domainRepository.findByCode(domainCode)
+        Long domainId = referenceDataRegistry.domainId(domainCode)
             .orElseThrow(() -> new IllegalArgumentException("Domain not found: " + domainCode));
-        Permission permission = permissionRepository.findByCode(permissionCode)
+        Long permissionId = referenceDataRegistry.permissionId(permissionCode)
             .orElseThrow(() -> new IllegalArgumentException("Permission not found: " + permissionCode));
 
         UserDomainPermissionOverride override = overrideRepository
-            .findByUserIdAndDomainCodeAndPermissionCode(targetUserId, domainCode, permissionCode)
+            .findByUserIdAndDomainIdAndPermissionId(targetUserId, domainId, permissionId)
             .orElseGet(UserDomainPermissionOverride::new);
 
         override.setUserId(targetUserId);
-        override.setDomain(domain);
-        override.setPermission(permission);
+        override.setDomain(domainRepository.getReferenceById(domainId));
+        override.setPermission(permissionRepository.getReferenceById(permissionId));
         override.setGranted(granted);
         override.setGrantedBy(actorUserId);
 
         overrideRepository.save(override);
+        eventPublisher.publishEvent(AuthorizationChangedEvent.forDomain(targetUserId, domainCode));
     }
 
+    /**
+     * Returns one page of active users of a domain, newest first, keyed on {@code (created_at, id)}.
+     * {@code cursor} is the {@code nextCursor} of the previous page, or {@code null} for the first one.
+     */
     @Transactional(readOnly = true)
-    public List<AdminUser> listAdminUsersByDomain(String domainCode) {
-        Set<Long> userIds = userDomainAbilityRepository.findByDomainCodeAndGrantedTrue(domainCode)
-            .stream()
-            .map(UserDomainAbility::getUserId)
-            .collect(LinkedHashSet::new, Set::add, Set::addAll);
+    public AdminUserPage listAdminUsersPage(String domainCode, String cursor, Integer requestedSize) {
+        int size = requestedSize == null ? defaultPageSize : Math.min(Math.max(requestedSize, 1), MAX_PAGE_SIZE);
+        PageRequest window = PageRequest.of(0, size + 1);
+
+        List<AdminUser> users;
+        if (cursor == null || cursor.isBlank()) {
+            users = adminUserRepository.findActiveByDomainCode(domainCode, window);
+        } else {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            users = adminUserRepository.findActiveByDomainCodeAfter(domainCode, after.createdAt(), after.id(), window);
+        }
 
-        if (userIds.isEmpty()) {
-            return List.of();
+        boolean hasMore = users.size() > size;
+        List<AdminUser> page = hasMore ? users.subList(0, size) : users;
+        if (page.isEmpty()) {
+            return new AdminUserPage(List.of(), null, size);
         }
 
-        List<AdminUser> users = new ArrayList<>(adminUserRepository.findAllById(userIds));
-        users.removeIf(user -> !user.isActive());
-        return users;
+        Map<Long, String> primaryRoles = new HashMap<>();
+        List<Long> userIds = page.stream().map(AdminUser::getId).toList();
+        for (UserAbilityCodeRow row : userDomainAbilityRepository.findGrantedAbilityCodesByDomainCodeAndUserIds(domainCode, userIds)) {
+            primaryRoles.merge(row.getUserId(), row.getAbilityCode(), (left, right) -> left.compareTo(right) <= 0 ? left : right);
+        }
+
+        List<AdminUserListing> listings = page.stream()
+            .map(user -> new AdminUserListing(user, primaryRoles.get(user.getId())))
+            .toList();
+        AdminUser last = page.get(page.size() - 1);
+        String nextCursor = hasMore ? new KeysetCursor(last.getCreatedAt(), last.getId()).encode() : null;
+        return new AdminUserPage(listings, nextCursor, size);
     }
 
     @Transactional(readOnly = true)
@@ -178,12 +213,15 @@ public class AdminUserService {
         return domainAuthorizationService.getPermissions(userId, domainCode);
     }
 
-    @Transactional(readOnly = true)
-    public List<Ability> listRoles() {
-        return abilityRepository.findAll()
-            .stream()
-            .sorted((left, right) -> left.getName().compareToIgnoreCase(right.getName()))
-            .toList();
+    public List<RoleDefinition> listRoles() {
+        return referenceDataRegistry.roles();
+    }
+
+    /**
+     * Changes whenever the role list may have changed; read it before {@link #listRoles()} when caching views of it.
+     */
+    public long roleCatalogVersion() {
+        return referenceDataRegistry.current().version();
     }
 
     @Transactional(readOnly = true)
@@ -213,6 +251,43 @@ public class AdminUserService {
         adminUser.setActive(false);
         adminUserRepository.save(adminUser);
         abilityAssignmentService.revokeAllAbilitiesForUser(userId);
+        eventPublisher.publishEvent(new UserTokensRevokedEvent(userId));
+    }
+
+    private AdminUser insertAdminUser(String email, String passwordHash) {
+        if (adminUserRepository.existsByEmail(email)) {
+            throw new IllegalArgumentException("Admin user with email already exists: " + email);
+        }
+
+        AdminUser adminUser = new AdminUser();
+        adminUser.setEmail(email);
+        adminUser.setPassword(passwordHash);
+        adminUser.setActive(true);
+        return adminUserRepository.save(adminUser);
+    }
+
+    private AdminUser applyAdminUserUpdate(Long userId, String email, String passwordHash) {
+        AdminUser adminUser = ensureAdminUserExists(userId);
+
+        if (StringUtils.hasText(email) && !email.equals(adminUser.getEmail())) {
+            if (adminUserRepository.existsByEmail(email)) {
+                throw new IllegalArgumentException("Admin user with email already exists: " + email);
+            }
+            adminUser.setEmail(email);
+        }
+
+        if (StringUtils.hasText(passwordHash)) {
+            adminUser.setPassword(passwordHash);
+        }
+
+        return adminUserRepository.save(adminUser);
+    }
+
+    private String encodePassword(String rawPassword) {
+        if (!StringUtils.hasText(rawPassword) || AdminUser.isPasswordHash(rawPassword)) {
+            return rawPassword;
+        }
+        return passwordHashingService.hash(rawPassword);
     }
 
     private AdminUser ensureAdminUserExists(Long userId) {
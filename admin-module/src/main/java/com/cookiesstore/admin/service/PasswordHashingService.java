@@ -0,0 +1,248 @@
+package com.cookiesstore.admin.service;
+
+import com.cookiesstore.common.api.TooManyRequestsException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+import org.springframework.stereotype.Service;
+
+/**
+ * Runs BCrypt hashing and verification on a dedicated pool sized to the cores, so a login or
+ * user-creation burst is capped at that much CPU instead of occupying every servlet worker.
+ * When the pool and its queue are full, callers are rejected immediately with a 429. Bulk jobs such as user
+ * imports and opportunistic rehashes run on a separate, smaller pool, so they can never fill the interactive queue.
+ *
+ * <p>The BCrypt cost is either fixed through {@code admin.password-hashing.cost} or calibrated once at startup
+ * as the highest cost whose verification stays within {@code admin.password-hashing.target-duration} on this host.
+ * Calibration is per node, so clusters on mixed hardware should fix the cost to keep hashes uniform.
+ */
+@Service
+public class PasswordHashingService implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(PasswordHashingService.class);
+
+    private static final Duration RETRY_AFTER = Duration.ofSeconds(1);
+    private static final int MIN_BCRYPT_COST = 4;
+    private static final int MAX_BCRYPT_COST = 31;
+
+    private final ThreadPoolExecutor executor;
+    private final ThreadPoolExecutor bulkExecutor;
+    private final int rehashBacklogLimit;
+    private final Duration waitTimeout;
+    private final int cost;
+
+    public PasswordHashingService(
+        @Value("${admin.password-hashing.threads:0}") int threads,
+        @Value("${admin.password-hashing.queue-capacity:0}") int queueCapacity,
+        @Value("${admin.password-hashing.bulk-threads:0}") int bulkThreads,
+        @Value("${admin.password-hashing.wait-timeout:PT10S}") Duration waitTimeout,
+        @Value("${admin.password-hashing.cost:0}") int cost,
+        @Value("${admin.password-hashing.min-cost:10}") int minCost,
+        @Value("${admin.password-hashing.max-cost:16}") int maxCost,
+        @Value("${admin.password-hashing.target-duration:PT0.1S}") Duration targetDuration
+    ) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        int capacity = queueCapacity > 0 ? queueCapacity : poolSize * 8;
+        int bulkPoolSize = bulkThreads > 0 ? bulkThreads : Math.max(1, poolSize / 2);
+        this.executor = newExecutor("password-hashing-", poolSize, new ArrayBlockingQueue<>(capacity));
+        this.bulkExecutor = newExecutor("password-hashing-bulk-", bulkPoolSize, new LinkedBlockingQueue<>());
+        this.rehashBacklogLimit = bulkPoolSize * 8;
+        this.waitTimeout = waitTimeout;
+        if (cost > 0) {
+            this.cost = requireValidCost(cost);
+        } else {
+            this.cost = calibrate(requireValidCost(minCost), requireValidCost(maxCost), targetDuration);
+            log.info("Calibrated BCrypt cost {} for a target verification time of {}", this.cost, targetDuration);
+        }
+    }
+
+    public String hash(String rawPassword) {
+        return await(() -> BCrypt.hashpw(rawPassword, BCrypt.gensalt(cost)));
+    }
+
+    /**
+     * Hashes a batch in parallel on the bulk pool, which has its own unbounded queue: a large batch waits
+     * for its turn there instead of taking slots that interactive {@link #hash} and {@link #matches} calls need.
+     * Callers bound the queue by the size of the batches they submit.
+     */
+    public List<String> hashAll(List<String> rawPasswords) {
+        List<Future<String>> futures = new ArrayList<>(rawPasswords.size());
+        for (String rawPassword : rawPasswords) {
+            futures.add(bulkExecutor.submit(() -> BCrypt.hashpw(rawPassword, BCrypt.gensalt(cost))));
+        }
+
+        List<String> hashes = new ArrayList<>(futures.size());
+        try {
+            for (Future<String> future : futures) {
+                hashes.add(future.get());
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            futures.forEach(future -> future.cancel(true));
+            throw new IllegalStateException("Interrupted while waiting for password hashing", ex);
+        } catch (ExecutionException ex) {
+            futures.forEach(future -> future.cancel(true));
+            throw new IllegalStateException("Password hashing failed", ex.getCause());
+        }
+        return hashes;
+    }
+
+    public boolean matches(String rawPassword, String passwordHash) {
+        return await(() -> BCrypt.checkpw(rawPassword, passwordHash));
+    }
+
+    public int cost() {
+        return cost;
+    }
+
+    /**
+     * True when {@code passwordHash} was produced with a lower cost than the current target. Hashes are only
+     * ever upgraded: nodes that calibrated to different costs would otherwise rehash the same account back and
+     * forth on every login.
+     */
+    public boolean needsRehash(String passwordHash) {
+        return costOf(passwordHash) < cost;
+    }
+
+    /**
+     * Best-effort background rehash at the current cost, on the bulk pool so upgrades never compete with logins
+     * for the interactive queue. Returns false without queueing when the bulk pool already has a backlog, e.g.
+     * during an import; the upgrade is simply retried on a later login.
+     */
+    public boolean rehashInBackground(String rawPassword, Consumer<String> onRehashed) {
+        if (bulkExecutor.getQueue().size() >= rehashBacklogLimit) {
+            return false;
+        }
+        try {
+            bulkExecutor.execute(() -> {
+                try {
+                    onRehashed.accept(BCrypt.hashpw(rawPassword, BCrypt.gensalt(cost)));
+                } catch (RuntimeException ex) {
+                    log.warn("Background password rehash failed", ex);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException ex) {
+            return false;
+        }
+    }
+
+    /**
+     * Runs {@code task} on the interactive pool and waits up to {@code wait-timeout}. A timed-out task that has
+     * not started yet is removed from the queue, but one already running cannot be stopped: BCrypt ignores
+     * interrupts, so its worker stays busy until the hash completes even though the caller already got a 429.
+     * Keep {@code wait-timeout} well above a full queue's drain time (queue-capacity / threads hashes at the
+     * calibrated cost, about 0.8 s with the defaults) so this only happens under sustained overload.
+     */
+    <T> T await(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException ex) {
+            throw new TooManyRequestsException("Password hashing capacity exhausted", RETRY_AFTER);
+        }
+
+        try {
+            return future.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException ex) {
+            future.cancel(true);
+            if (future instanceof Runnable queued) {
+                executor.remove(queued);
+            }
+            throw new TooManyRequestsException("Password hashing timed out", RETRY_AFTER);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new IllegalStateException("Interrupted while waiting for password hashing", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", ex.getCause());
+        }
+    }
+
+    static int costOf(String passwordHash) {
+        if (passwordHash == null || passwordHash.length() < 7 || passwordHash.charAt(0) != '$'
+            || passwordHash.charAt(3) != '$' || passwordHash.charAt(6) != '$') {
+            return -1;
+        }
+        char tens = passwordHash.charAt(4);
+        char ones = passwordHash.charAt(5);
+        if (!Character.isDigit(tens) || !Character.isDigit(ones)) {
+            return -1;
+        }
+        return (tens - '0') * 10 + (ones - '0');
+    }
+
+    /**
+     * Times one hash at {@code minCost} and doubles the estimate per extra round, which is how BCrypt scales,
+     * so startup pays for a single measurement rather than one per candidate cost.
+     */
+    static int calibrate(int minCost, int maxCost, Duration targetDuration) {
+        BCrypt.hashpw("calibration", BCrypt.gensalt(MIN_BCRYPT_COST));
+        String salt = BCrypt.gensalt(minCost);
+        long started = System.nanoTime();
+        BCrypt.hashpw("calibration", salt);
+        long estimate = Math.max(1L, System.nanoTime() - started);
+
+        long target = targetDuration.toNanos();
+        int selected = minCost;
+        while (selected < maxCost && estimate * 2 <= target) {
+            estimate *= 2;
+            selected++;
+        }
+        return selected;
+    }
+
+    private static int requireValidCost(int value) {
+        if (value < MIN_BCRYPT_COST || value > MAX_BCRYPT_COST) {
+            throw new IllegalArgumentException("BCrypt cost must be between 4 and 31: " + value);
+        }
+        return value;
+    }
+
+    private static ThreadPoolExecutor newExecutor(String namePrefix, int poolSize, BlockingQueue<Runnable> queue) {
+        AtomicInteger sequence = new AtomicInteger();
+        return new ThreadPoolExecutor(
+            poolSize,
+            poolSize,
+            0L,
+            TimeUnit.MILLISECONDS,
+            queue,
+            runnable -> {
+                Thread thread = new Thread(runnable, namePrefix + sequence.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    int queuedTasks() {
+        return executor.getQueue().size();
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+        bulkExecutor.shutdownNow();
+    }
+}
@@ -0,0 +1,56 @@
+package com.cookiesstore.admin.web.controllers;
+
+import com.cookiesstore.admin.web.dto.auth.RefreshTokenRequest;
+import com.cookiesstore.admin.web.dto.auth.TokenResponse;
+import com.cookiesstore.common.api.ApiResponse;
+import com.cookiesstore.common.auth.AuthCookieNames;
+import com.cookiesstore.common.auth.AuthCookies;
+import com.cookiesstore.common.refresh.RefreshTokenService;
+import com.cookiesstore.common.refresh.TokenPair;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.Optional;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+public class AdminAuthApiController {
+
+    private final RefreshTokenService refreshTokenService;
+
+    public AdminAuthApiController(RefreshTokenService refreshTokenService) {
+        this.refreshTokenService = refreshTokenService;
+    }
+
+    /**
+     * Rotates a refresh token taken from the body or, for browser sessions, from the refresh cookie.
+     * Cookie callers get the new pair as cookies as well.
+     */
+    @PostMapping("/api/auth/refresh")
+    public ResponseEntity<ApiResponse<TokenResponse>> refresh(
+        @RequestBody(required = false) RefreshTokenRequest body,
+        HttpServletRequest request,
+        HttpServletResponse response
+    ) {
+        String cookieToken = AuthCookies.read(request, AuthCookieNames.ADMIN_REFRESH_TOKEN);
+        String refreshToken = body != null && body.refreshToken() != null ? body.refreshToken() : cookieToken;
+        Optional<TokenPair> refreshed = refreshTokenService.refresh(refreshToken);
+        if (refreshed.isEmpty()) {
+            if (cookieToken != null) {
+                AuthCookies.clear(response, AuthCookieNames.ADMIN_REFRESH_TOKEN);
+            }
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                .body(ApiResponse.error("INVALID_REFRESH_TOKEN", "Refresh token is invalid, expired or revoked"));
+        }
+
+        TokenPair tokens = refreshed.get();
+        if (refreshToken.equals(cookieToken)) {
+            AuthCookies.set(response, AuthCookieNames.ADMIN_AUTH_TOKEN, tokens.accessToken(), tokens.accessExpiresAt());
+            AuthCookies.set(response, AuthCookieNames.ADMIN_REFRESH_TOKEN, tokens.refreshToken(), tokens.refreshExpiresAt());
+        }
+        return ResponseEntity.ok(ApiResponse.success(TokenResponse.from(tokens)));
+    }
+}
@@ -1,11 +1,17 @@
 package com.cookiesstore.admin.web.controllers;
 
 import com.cookiesstore.admin.service.AdminAuthenticationService;
+import com.cookiesstore.common.api.TooManyRequestsException;
 import com.cookiesstore.common.auth.AuthCookieNames;
+import com.cookiesstore.common.auth.AuthCookies;
+import com.cookiesstore.common.auth.TokenRevocationRegistry;
+import com.cookiesstore.common.auth.VerifiedTokenCache;
+import com.cookiesstore.common.refresh.RefreshTokenService;
+import com.cookiesstore.common.refresh.TokenPair;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import java.time.Duration;
+import java.util.Optional;
 import org.springframework.http.HttpHeaders;
-import org.springframework.http.ResponseCookie;
 import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -18,9 +24,20 @@ import org.springframework.web.bind.annotation.RequestParam;
 public class AdminAuthController {
 
     private final AdminAuthenticationService adminAuthenticationService;
+    private final RefreshTokenService refreshTokenService;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
 
-    public AdminAuthController(AdminAuthenticationService adminAuthenticationService) {
+    public AdminAuthController(
+        AdminAuthenticationService adminAuthenticationService,
+        RefreshTokenService refreshTokenService,
+        VerifiedTokenCache verifiedTokenCache,
+        TokenRevocationRegistry tokenRevocationRegistry
+    ) {
         this.adminAuthenticationService = adminAuthenticationService;
+        this.refreshTokenService = refreshTokenService;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.tokenRevocationRegistry = tokenRevocationRegistry;
     }
 
     @GetMapping("/admin/login")
@@ -38,31 +55,38 @@ public class AdminAuthController {
     public String login(
         @RequestParam("email") String email,
         @RequestParam("password") String password,
+        HttpServletRequest request,
         HttpServletResponse response
     ) {
-        return adminAuthenticationService.authenticate(email, password)
-            .map(token -> {
-                ResponseCookie cookie = ResponseCookie.from(AuthCookieNames.ADMIN_AUTH_TOKEN, token)
-                    .httpOnly(true)
-                    .path("/")
-                    .maxAge(Duration.ofHours(8))
-                    .sameSite("Lax")
-                    .build();
-                response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+        Optional<TokenPair> tokens;
+        try {
+            tokens = adminAuthenticationService.authenticate(email, password, request.getRemoteAddr());
+        } catch (TooManyRequestsException ex) {
+            response.addHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1L, ex.getRetryAfter().toSeconds())));
+            return "redirect:/admin/login?throttled";
+        }
+
+        return tokens
+            .map(issued -> {
+                AuthCookies.set(response, AuthCookieNames.ADMIN_AUTH_TOKEN, issued.accessToken(), issued.accessExpiresAt());
+                AuthCookies.set(response, AuthCookieNames.ADMIN_REFRESH_TOKEN, issued.refreshToken(), issued.refreshExpiresAt());
                 return "redirect:/admin";
             })
             .orElse("redirect:/admin/login?error");
     }
 
     @PostMapping("/admin/logout")
-    public String logout(HttpServletResponse response) {
-        ResponseCookie cleared = ResponseCookie.from(AuthCookieNames.ADMIN_AUTH_TOKEN, "")
-            .httpOnly(true)
-            .path("/")
-            .maxAge(0)
-            .sameSite("Lax")
-            .build();
-        response.addHeader(HttpHeaders.SET_COOKIE, cleared.toString());
+    public String logout(HttpServletRequest request, HttpServletResponse response) {
+        String accessToken = AuthCookies.read(request, AuthCookieNames.ADMIN_AUTH_TOKEN);
+        if (accessToken != null) {
+            verifiedTokenCache.verify(accessToken).ifPresent(tokenRevocationRegistry::revokeToken);
+        }
+        String refreshToken = AuthCookies.read(request, AuthCookieNames.ADMIN_REFRESH_TOKEN);
+        if (refreshToken != null) {
+            refreshTokenService.revoke(refreshToken);
+        }
+        AuthCookies.clear(response, AuthCookieNames.ADMIN_AUTH_TOKEN);
+        AuthCookies.clear(response, AuthCookieNames.ADMIN_REFRESH_TOKEN);
         SecurityContextHolder.clearContext();
         return "redirect:/admin/login?logout";
     }
@@ -1,6 +1,11 @@
 package com.cookiesstore.admin.web.controllers;
 
 import com.cookiesstore.admin.domain.AdminUser;
+import com.cookiesstore.admin.service.AdminUserImportReader;
+import com.cookiesstore.admin.service.AdminUserImportReport;
+import com.cookiesstore.admin.service.AdminUserImportService;
+import com.cookiesstore.admin.service.AdminUserListing;
+import com.cookiesstore.admin.service.AdminUserPage;
 import com.cookiesstore.admin.service.AdminUserService;
 import com.cookiesstore.admin.web.dto.users.AdminUserResponse;
 import com.cookiesstore.admin.web.dto.users.AssignAbilityRequest;
@@ -8,24 +13,35 @@ import com.cookiesstore.admin.web.dto.users.CreateAdminUserRequest;
 import com.cookiesstore.admin.web.dto.users.PermissionOverrideRequest;
 import com.cookiesstore.admin.web.dto.users.UpdateAdminUserRequest;
 import com.cookiesstore.common.api.ApiResponse;
+import com.cookiesstore.common.api.PageInfo;
 import com.cookiesstore.common.authorization.annotation.RequiresAbility;
 import com.cookiesstore.common.authorization.domain.Ability;
 import com.cookiesstore.common.authorization.repository.AbilityRepository;
 import com.cookiesstore.common.authorization.service.DomainAuthorizationService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.web.server.ResponseStatusException;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -34,26 +50,38 @@ public class AdminUserApiController {
     private final AdminUserService adminUserService;
     private final DomainAuthorizationService domainAuthorizationService;
     private final AbilityRepository abilityRepository;
+    private final AdminUserImportService adminUserImportService;
+    private final DataSize maxImportSize;
 
     public AdminUserApiController(
         AdminUserService adminUserService,
         DomainAuthorizationService domainAuthorizationService,
-        AbilityRepository abilityRepository
+        AbilityRepository abilityRepository,
+        AdminUserImportService adminUserImportService,
+        @Value("${admin.users.import.max-size:5MB}") DataSize maxImportSize
     ) {
         this.adminUserService = adminUserService;
         this.domainAuthorizationService = domainAuthorizationService;
         this.abilityRepository = abilityRepository;
+        this.adminUserImportService = adminUserImportService;
+        this.maxImportSize = maxImportSize;
     }
 
     @GetMapping("/api/domains/{domainCode}/admin/users")
     @RequiresAbility("manage-users")
-    public ResponseEntity<ApiResponse<List<AdminUserResponse>>> listUsers(@PathVariable("domainCode") String domainCode) {
-        List<AdminUserResponse> users = adminUserService.listAdminUsersByDomain(domainCode)
+    public ResponseEntity<ApiResponse<List<AdminUserResponse>>> listUsers(
+        @PathVariable("domainCode") String domainCode,
+        @RequestParam(value = "cursor", required = false) String cursor,
+        @RequestParam(value = "size", required = false) Integer size
+    ) {
+        AdminUserPage page = adminUserService.listAdminUsersPage(domainCode, cursor, size);
+        List<AdminUserResponse> users = page.users()
             .stream()
+            .map(AdminUserListing::user)
             .map(AdminUserResponse::from)
             .toList();
 
-        return ResponseEntity.ok(ApiResponse.success(users));
+        return ResponseEntity.ok(ApiResponse.success(users, new PageInfo(page.nextCursor(), page.hasMore(), page.size())));
     }
 
     @PostMapping("/api/domains/{domainCode}/admin/users")
@@ -71,6 +99,40 @@ public class AdminUserApiController {
         return ResponseEntity.status(201).body(ApiResponse.success(AdminUserResponse.from(created)));
     }
 
+    @PostMapping(value = "/api/domains/{domainCode}/admin/users/import", consumes = {"text/csv", "application/x-ndjson"})
+    @RequiresAbility("manage-users")
+    public ResponseEntity<ApiResponse<AdminUserImportReport>> importUsers(
+        @PathVariable("domainCode") String domainCode,
+        @RequestHeader("Content-Type") MediaType contentType,
+        HttpServletRequest request
+    ) throws IOException {
+        long contentLength = request.getContentLengthLong();
+        if (contentLength < 0) {
+            throw new ResponseStatusException(HttpStatus.LENGTH_REQUIRED, "Import uploads must declare a Content-Length");
+        }
+        if (contentLength > maxImportSize.toBytes()) {
+            throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE, "Import uploads are limited to " + maxImportSize);
+        }
+
+        Long actorUserId = currentUserId();
+        String actorDomainCode = adminUserService.resolveActorDomainCode(actorUserId);
+        if (!actorDomainCode.equals(domainCode)) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Domain mismatch");
+        }
+
+        AdminUserImportReader.Format format = contentType.isCompatibleWith(MediaType.parseMediaType("text/csv"))
+            ? AdminUserImportReader.Format.CSV
+            : AdminUserImportReader.Format.NDJSON;
+        try (Reader reader = new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8)) {
+            AdminUserImportReport report = adminUserImportService.importAdminUsers(
+                actorUserId,
+                domainCode,
+                AdminUserImportReader.open(reader, format)
+            );
+            return ResponseEntity.ok(ApiResponse.success(report));
+        }
+    }
+
     @GetMapping("/api/domains/{domainCode}/admin/users/{id}")
     @RequiresAbility("manage-users")
     public ResponseEntity<ApiResponse<AdminUserResponse>> getUser(@PathVariable("domainCode") String domainCode, @PathVariable("id") Long id) {
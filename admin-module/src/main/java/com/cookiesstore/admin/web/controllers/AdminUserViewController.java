@@ -1,15 +1,18 @@
 package com.cookiesstore.admin.web.controllers;
 
 import com.cookiesstore.admin.domain.AdminUser;
+import com.cookiesstore.admin.service.AdminUserListing;
+import com.cookiesstore.admin.service.AdminUserPage;
 import com.cookiesstore.admin.service.AdminUserService;
 import com.cookiesstore.admin.web.dto.users.CreateAdminUserForm;
 import com.cookiesstore.admin.web.dto.users.UpdateAdminUserForm;
 
 import jakarta.validation.Valid;
-import com.cookiesstore.admin.web.viewmodels.AdminUserViewModel;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
@@ -17,6 +20,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 @Controller
@@ -33,19 +37,20 @@ public class AdminUserViewController {
     @GetMapping(value = "/admin/users", name = "admin.users.list")
     public String usersList(
         Model model,
-        @ModelAttribute("currentUserId") Long actorUserId
+        @ModelAttribute("currentUserId") Long actorUserId,
+        @RequestParam(value = "cursor", required = false) String cursor
     ) {
         String domainCode = adminUserService.resolveActorDomainCode(actorUserId);
 
-        List<AdminUserViewModel> users = adminUserService.listAdminUsersByDomain(domainCode)
-            .stream()
-            .map(user -> AdminUserViewModel.from(
-                user,
-        adminUserService.findPrimaryRoleCode(user.getId(), domainCode)
-            ))
-            .toList();
+        AdminUserPage page = adminUserService.listAdminUsersPage(domainCode, cursor, null);
+        Map<Long, String> userRoles = new HashMap<>();
+        for (AdminUserListing listing : page.users()) {
+            userRoles.put(listing.user().getId(), listing.primaryRoleCode());
+        }
 
-        model.addAttribute("users", users);
+        model.addAttribute("users", page.users().stream().map(AdminUserListing::user).toList());
+        model.addAttribute("userRoles", userRoles);
+        model.addAttribute("nextCursor", page.nextCursor());
         model.addAttribute("domainCode", domainCode);
         return "backoffice/users/index";
     }
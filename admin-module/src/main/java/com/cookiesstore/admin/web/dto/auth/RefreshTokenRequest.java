@@ -0,0 +1,4 @@
+package com.cookiesstore.admin.web.dto.auth;
+
+public record RefreshTokenRequest(String refreshToken) {
+}
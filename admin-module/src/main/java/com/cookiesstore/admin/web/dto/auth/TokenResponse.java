@@ -0,0 +1,18 @@
+package com.cookiesstore.admin.web.dto.auth;
+
+import com.cookiesstore.common.refresh.TokenPair;
+import java.time.Duration;
+import java.time.Instant;
+
+public record TokenResponse(String accessToken, long expiresIn, String refreshToken, long refreshExpiresIn) {
+
+    public static TokenResponse from(TokenPair tokens) {
+        Instant now = Instant.now();
+        return new TokenResponse(
+            tokens.accessToken(),
+            Math.max(0L, Duration.between(now, tokens.accessExpiresAt()).toSeconds()),
+            tokens.refreshToken(),
+            Math.max(0L, Duration.between(now, tokens.refreshExpiresAt()).toSeconds())
+        );
+    }
+}
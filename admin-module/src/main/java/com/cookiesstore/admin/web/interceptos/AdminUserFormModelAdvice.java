@@ -2,6 +2,10 @@ package com.cookiesstore.admin.web.interceptos;
 
 import com.cookiesstore.admin.service.AdminUserService;
 import com.cookiesstore.admin.web.controllers.AdminUserViewController;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
 
@@ -22,6 +26,7 @@ public class AdminUserFormModelAdvice {
 
     private final AdminUserService adminUserService;
     private final MessageSource messageSource;
+    private final ConcurrentMap<Locale, LocalizedRoleOptions> roleOptions = new ConcurrentHashMap<>();
 
     public AdminUserFormModelAdvice(AdminUserService adminUserService, MessageSource messageSource) {
         this.adminUserService = adminUserService;
@@ -104,20 +109,33 @@ public class AdminUserFormModelAdvice {
     }
 
     private void populateRoleModel(Model model, String selectedRoleCode) {
-        var roles = adminUserService.listRoles()
+        model.addAttribute("roles", roleOptions(LocaleContextHolder.getLocale()));
+        model.addAttribute("selectedRoleCode", selectedRoleCode);
+    }
+
+    /**
+     * Role options are rebuilt only when the role catalog version moves; the version is read before the
+     * roles so a concurrent reload can only cause an extra rebuild, never a stale list under a new version.
+     */
+    private List<RoleOption> roleOptions(Locale locale) {
+        long version = adminUserService.roleCatalogVersion();
+        LocalizedRoleOptions cached = roleOptions.get(locale);
+        if (cached != null && cached.version() == version) {
+            return cached.options();
+        }
+
+        List<RoleOption> options = adminUserService.listRoles()
             .stream()
-            .map(ability -> new RoleOption(
-                ability.getCode(),
-                ability.getName(),
-                ability.getPermissions().stream()
-                    .sorted(java.util.Comparator.comparing(com.cookiesstore.common.authorization.domain.Permission::getCode))
-                    .map(permission -> permission.getResource() + ":" + permission.getAction())
+            .map(role -> new RoleOption(
+                role.code(),
+                messageSource.getMessage("admin.roles." + role.code(), null, role.name(), locale),
+                role.permissions().stream()
+                    .map(permission -> permission.resource() + ":" + permission.action())
                     .toList()
             ))
             .toList();
-
-        model.addAttribute("roles", roles);
-        model.addAttribute("selectedRoleCode", selectedRoleCode);
+        roleOptions.put(locale, new LocalizedRoleOptions(version, options));
+        return options;
     }
 
     private String message(String key, Object... args) {
@@ -145,4 +163,7 @@ public class AdminUserFormModelAdvice {
 
     public record RoleOption(String code, String name, java.util.List<String> permissions) {
     }
+
+    private record LocalizedRoleOptions(long version, List<RoleOption> options) {
+    }
 }
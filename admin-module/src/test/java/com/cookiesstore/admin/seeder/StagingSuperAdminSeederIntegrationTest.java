@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.cookiesstore.admin.domain.AdminUser;
 import com.cookiesstore.admin.repository.AdminUserRepository;
+import com.cookiesstore.admin.service.PasswordHashingService;
 import com.cookiesstore.common.authorization.domain.Ability;
 import com.cookiesstore.common.authorization.domain.Domain;
 import com.cookiesstore.common.authorization.domain.UserDomainAbility;
@@ -38,7 +39,8 @@ import org.springframework.transaction.annotation.Transactional;
     "admin.bootstrap.super-admin.enabled=false",
     "admin.bootstrap.super-admin.email=stage-admin@cookies.dev",
     "admin.bootstrap.super-admin.password=StageSecret123!",
-    "admin.bootstrap.super-admin.domains=main-store,example.test"
+    "admin.bootstrap.super-admin.domains=main-store,example.test",
+    "admin.password-hashing.cost=5"
 })
 class StagingSuperAdminSeederIntegrationTest {
 
@@ -51,7 +53,7 @@ class StagingSuperAdminSeederIntegrationTest {
         AbilityRepository.class,
         UserDomainAbilityRepository.class
     })
-    @Import(StagingSuperAdminSeeder.class)
+    @Import({StagingSuperAdminSeeder.class, PasswordHashingService.class})
     static class TestConfig {
     }
 
@@ -84,6 +86,7 @@ class StagingSuperAdminSeederIntegrationTest {
         AdminUser admin = adminUserRepository.findByEmail("stage-admin@cookies.dev").orElseThrow();
         assertTrue(admin.isActive());
         assertTrue(BCrypt.checkpw("StageSecret123!", admin.getPasswordHash()));
+        assertTrue(admin.getPasswordHash().startsWith("$2a$05$"));
 
         List<UserDomainAbility> mainStore = userDomainAbilityRepository
             .findByUserIdAndDomainCodeAndGrantedTrue(admin.getId(), "main-store");
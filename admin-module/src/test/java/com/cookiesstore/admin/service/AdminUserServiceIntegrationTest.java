@@ -7,15 +7,22 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.cookiesstore.admin.domain.AdminUser;
 import com.cookiesstore.admin.repository.AdminUserRepository;
+import com.cookiesstore.common.authorization.cache.PermissionSnapshotCache;
 import com.cookiesstore.common.authorization.domain.Ability;
 import com.cookiesstore.common.authorization.domain.Domain;
 import com.cookiesstore.common.authorization.domain.Permission;
 import com.cookiesstore.common.authorization.domain.UserDomainAbility;
+import com.cookiesstore.common.authorization.event.AuthorizationChangedEvent;
+import com.cookiesstore.common.authorization.registry.PermissionRegistry;
+import com.cookiesstore.common.authorization.registry.ReferenceDataRegistry;
 import com.cookiesstore.common.authorization.repository.AbilityRepository;
 import com.cookiesstore.common.authorization.repository.DomainRepository;
 import com.cookiesstore.common.authorization.repository.PermissionRepository;
 import com.cookiesstore.common.authorization.repository.UserDomainAbilityRepository;
 import com.cookiesstore.common.authorization.service.DomainAuthorizationService;
+import com.cookiesstore.common.config.CommonConfiguration;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 import org.junit.jupiter.api.Test;
@@ -57,7 +64,16 @@ class AdminUserServiceIntegrationTest {
         UserDomainAbilityRepository.class,
         com.cookiesstore.common.authorization.repository.UserDomainPermissionOverrideRepository.class
     })
-    @Import({DomainAuthorizationService.class, AdminUserService.class, AdminAbilityAssignmentService.class})
+    @Import({
+        CommonConfiguration.class,
+        PermissionSnapshotCache.class,
+        PermissionRegistry.class,
+        DomainAuthorizationService.class,
+        AdminUserService.class,
+        PasswordHashingService.class,
+        AdminAbilityAssignmentService.class,
+        ReferenceDataRegistry.class
+    })
     static class TestConfig {
     }
 
@@ -79,6 +95,12 @@ class AdminUserServiceIntegrationTest {
     @Autowired
     private UserDomainAbilityRepository userDomainAbilityRepository;
 
+    @Autowired
+    private AdminAbilityAssignmentService abilityAssignmentService;
+
+    @Autowired
+    private EntityManager entityManager;
+
     @Test
     void createsAdminUser() {
         AdminUser saved = adminUserService.createAdminUser("service-create@cookies.dev", "Secret123!");
@@ -149,11 +171,67 @@ class AdminUserServiceIntegrationTest {
 
         grantAbility(inDomain.getId(), domain, ability, true);
 
-        List<AdminUser> users = adminUserService.listAdminUsersByDomain(domain.getCode());
+        List<AdminUserListing> users = adminUserService.listAdminUsersPage(domain.getCode(), null, null).users();
 
         assertEquals(1, users.size());
-        assertEquals("in-domain@cookies.dev", users.get(0).getEmail());
-        assertFalse(users.stream().anyMatch(user -> user.getId().equals(outsideDomain.getId())));
+        assertEquals("in-domain@cookies.dev", users.get(0).user().getEmail());
+        assertFalse(users.stream().anyMatch(listing -> listing.user().getId().equals(outsideDomain.getId())));
+    }
+
+    @Test
+    void listsAdminUsersWithAlphabeticallyFirstRole() {
+        Domain domain = createDomain("listing-domain");
+        Ability orders = createAbility("manage-orders");
+        Ability customers = createAbility("manage-customers");
+
+        AdminUser withTwoRoles = createAdmin("two-roles@cookies.dev");
+        AdminUser inactive = createAdmin("inactive-listing@cookies.dev");
+        grantAbility(withTwoRoles.getId(), domain, orders, true);
+        grantAbility(withTwoRoles.getId(), domain, customers, true);
+        grantAbility(inactive.getId(), domain, orders, true);
+        inactive.setActive(false);
+        adminUserRepository.save(inactive);
+
+        List<AdminUserListing> listings = adminUserService.listAdminUsersPage(domain.getCode(), null, null).users();
+
+        assertEquals(1, listings.size());
+        assertEquals(withTwoRoles.getId(), listings.get(0).user().getId());
+        assertEquals("manage-customers", listings.get(0).primaryRoleCode());
+    }
+
+    @Test
+    void pagesAdminUsersByCreationKeyset() {
+        Domain domain = createDomain("paged-domain");
+        Ability ability = createAbility("manage-orders");
+        List<Long> createdIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            AdminUser admin = createAdmin("paged-" + i + "@cookies.dev");
+            grantAbility(admin.getId(), domain, ability, true);
+            createdIds.add(admin.getId());
+        }
+
+        List<Long> seen = new ArrayList<>();
+        AdminUserPage page = adminUserService.listAdminUsersPage(domain.getCode(), null, 2);
+        int pages = 1;
+        seen.addAll(page.users().stream().map(listing -> listing.user().getId()).toList());
+        while (page.hasMore()) {
+            page = adminUserService.listAdminUsersPage(domain.getCode(), page.nextCursor(), 2);
+            seen.addAll(page.users().stream().map(listing -> listing.user().getId()).toList());
+            pages++;
+        }
+
+        assertEquals(3, pages);
+        assertEquals(5, seen.size());
+        assertEquals(Set.copyOf(createdIds), Set.copyOf(seen));
+        assertEquals("manage-orders", adminUserService.listAdminUsersPage(domain.getCode(), null, 1).users().get(0).primaryRoleCode());
+    }
+
+    @Test
+    void rejectsMalformedCursor() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> adminUserService.listAdminUsersPage("paged-domain", "not-a-cursor", 10)
+        );
     }
 
     @Test
@@ -203,6 +281,75 @@ class AdminUserServiceIntegrationTest {
         );
     }
 
+    @Test
+    void revokeAllUpdatesEveryDomainAndKeepsOriginalGrantor() {
+        AdminUser admin = createAdmin("revoke-all@cookies.dev");
+        Domain first = createDomain("revoke-all-a");
+        Domain second = createDomain("revoke-all-b");
+        Domain untouched = createDomain("revoke-all-c");
+        Ability orders = createAbility("manage-orders");
+        Ability customers = createAbility("manage-customers");
+
+        grantAbility(admin.getId(), first, orders, true, 501L);
+        grantAbility(admin.getId(), first, customers, true, 502L);
+        grantAbility(admin.getId(), second, orders, true, 503L);
+        grantAbility(admin.getId(), untouched, orders, false, 504L);
+
+        List<AuthorizationChangedEvent> affected = abilityAssignmentService.revokeAllAbilitiesForUser(admin.getId());
+
+        assertEquals(
+            Set.of(
+                AuthorizationChangedEvent.forDomain(admin.getId(), "revoke-all-a"),
+                AuthorizationChangedEvent.forDomain(admin.getId(), "revoke-all-b")
+            ),
+            Set.copyOf(affected)
+        );
+        assertGrant(admin.getId(), "revoke-all-a", "manage-orders", false, 501L);
+        assertGrant(admin.getId(), "revoke-all-a", "manage-customers", false, 502L);
+        assertGrant(admin.getId(), "revoke-all-b", "manage-orders", false, 503L);
+        assertGrant(admin.getId(), "revoke-all-c", "manage-orders", false, 504L);
+        assertTrue(abilityAssignmentService.revokeAllAbilitiesForUser(admin.getId()).isEmpty());
+    }
+
+    @Test
+    void setSingleRoleRevokesOtherRolesInDomainOnlyAndRecordsActor() {
+        AdminUser admin = createAdmin("single-role@cookies.dev");
+        Domain domain = createDomain("single-role-a");
+        Domain other = createDomain("single-role-b");
+        Ability orders = createAbility("manage-orders");
+        Ability customers = createAbility("manage-customers");
+        Ability users = createAbility("manage-users");
+
+        grantAbility(admin.getId(), domain, orders, true, 601L);
+        grantAbility(admin.getId(), domain, customers, true, 602L);
+        grantAbility(admin.getId(), other, orders, true, 603L);
+
+        abilityAssignmentService.setSingleRole(777L, admin.getId(), domain.getCode(), users.getCode());
+
+        assertTrue(entityManager.contains(admin));
+        assertGrant(admin.getId(), "single-role-a", "manage-orders", false, 777L);
+        assertGrant(admin.getId(), "single-role-a", "manage-customers", false, 777L);
+        assertGrant(admin.getId(), "single-role-a", "manage-users", true, 777L);
+        assertGrant(admin.getId(), "single-role-b", "manage-orders", true, 603L);
+    }
+
+    @Test
+    void setSingleRoleKeepsExistingGrantOfTheSameRole() {
+        AdminUser admin = createAdmin("same-role@cookies.dev");
+        Domain domain = createDomain("same-role-domain");
+        Ability orders = createAbility("manage-orders");
+        Ability customers = createAbility("manage-customers");
+
+        grantAbility(admin.getId(), domain, orders, true, 701L);
+        grantAbility(admin.getId(), domain, customers, true, 702L);
+
+        abilityAssignmentService.setSingleRole(778L, admin.getId(), domain.getCode(), orders.getCode());
+
+        assertGrant(admin.getId(), "same-role-domain", "manage-orders", true, 778L);
+        assertGrant(admin.getId(), "same-role-domain", "manage-customers", false, 778L);
+        assertEquals(Set.of("manage-orders"), adminUserService.listAbilityCodes(admin.getId(), domain.getCode()));
+    }
+
     @Test
     void preventsSelfRevokingLastSuperAdminAbility() {
         AdminUser admin = createAdmin("super@cookies.dev");
@@ -248,11 +395,24 @@ class AdminUserServiceIntegrationTest {
     }
 
     private void grantAbility(Long userId, Domain domain, Ability ability, boolean granted) {
+        grantAbility(userId, domain, ability, granted, null);
+    }
+
+    private void grantAbility(Long userId, Domain domain, Ability ability, boolean granted, Long grantedBy) {
         UserDomainAbility grant = new UserDomainAbility();
         grant.setUserId(userId);
         grant.setDomain(domain);
         grant.setAbility(ability);
         grant.setGranted(granted);
+        grant.setGrantedBy(grantedBy);
         userDomainAbilityRepository.saveAndFlush(grant);
     }
+
+    private void assertGrant(Long userId, String domainCode, String abilityCode, boolean granted, Long grantedBy) {
+        UserDomainAbility grant = userDomainAbilityRepository
+            .findByUserIdAndDomainCodeAndAbilityCode(userId, domainCode, abilityCode)
+            .orElseThrow();
+        assertEquals(granted, grant.isGranted());
+        assertEquals(grantedBy, grant.getGrantedBy());
+    }
 }
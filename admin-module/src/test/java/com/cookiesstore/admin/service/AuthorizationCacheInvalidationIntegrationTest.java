@@ -0,0 +1,167 @@
+package com.cookiesstore.admin.service;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.cookiesstore.admin.domain.AdminUser;
+import com.cookiesstore.admin.repository.AdminUserRepository;
+import com.cookiesstore.common.authorization.cache.AuthorizationCacheInvalidationListener;
+import com.cookiesstore.common.authorization.cache.PermissionSnapshotCache;
+import com.cookiesstore.common.authorization.domain.Ability;
+import com.cookiesstore.common.authorization.domain.Domain;
+import com.cookiesstore.common.authorization.domain.Permission;
+import com.cookiesstore.common.authorization.domain.UserDomainAbility;
+import com.cookiesstore.common.authorization.domain.UserDomainPermissionOverride;
+import com.cookiesstore.common.authorization.registry.PermissionRegistry;
+import com.cookiesstore.common.authorization.registry.ReferenceDataRegistry;
+import com.cookiesstore.common.authorization.repository.AbilityRepository;
+import com.cookiesstore.common.authorization.repository.DomainRepository;
+import com.cookiesstore.common.authorization.repository.PermissionRepository;
+import com.cookiesstore.common.authorization.repository.UserDomainAbilityRepository;
+import com.cookiesstore.common.authorization.repository.UserDomainPermissionOverrideRepository;
+import com.cookiesstore.common.authorization.service.DomainAuthorizationService;
+import com.cookiesstore.common.config.CommonConfiguration;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest(classes = AuthorizationCacheInvalidationIntegrationTest.TestConfig.class)
+@Transactional
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:authz-cache;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "security.authorization.cache.enabled=true"
+})
+class AuthorizationCacheInvalidationIntegrationTest {
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @EntityScan(basePackageClasses = {
+        AdminUser.class,
+        Domain.class,
+        Ability.class,
+        Permission.class,
+        UserDomainAbility.class,
+        UserDomainPermissionOverride.class
+    })
+    @EnableJpaRepositories(basePackageClasses = {
+        AdminUserRepository.class,
+        DomainRepository.class,
+        AbilityRepository.class,
+        PermissionRepository.class,
+        UserDomainAbilityRepository.class,
+        UserDomainPermissionOverrideRepository.class
+    })
+    @Import({
+        CommonConfiguration.class,
+        PermissionSnapshotCache.class,
+        PermissionRegistry.class,
+        AuthorizationCacheInvalidationListener.class,
+        DomainAuthorizationService.class,
+        AdminUserService.class,
+        PasswordHashingService.class,
+        AdminAbilityAssignmentService.class,
+        ReferenceDataRegistry.class
+    })
+    static class TestConfig {
+    }
+
+    @Autowired
+    private AdminUserService adminUserService;
+
+    @Autowired
+    private DomainAuthorizationService authorizationService;
+
+    @Autowired
+    private DomainRepository domainRepository;
+
+    @Autowired
+    private AbilityRepository abilityRepository;
+
+    @Autowired
+    private PermissionRepository permissionRepository;
+
+    @Test
+    void revokeIsVisibleImmediatelyDespiteCachedSnapshot() {
+        AdminUser admin = adminUserService.createAdminUser("cache-revoke@cookies.dev", "Secret123!");
+        Domain domain = createDomain("cache-revoke-domain");
+        Permission permission = createPermission("customers:list", "customers", "list");
+        createAbility("manage-customers", permission);
+
+        adminUserService.assignAbility(999L, admin.getId(), domain.getCode(), "manage-customers");
+        assertTrue(authorizationService.hasPermission(admin.getId(), domain.getCode(), "customers:list"));
+
+        adminUserService.revokeAbility(999L, admin.getId(), domain.getCode(), "manage-customers");
+        assertFalse(authorizationService.hasPermission(admin.getId(), domain.getCode(), "customers:list"));
+        assertFalse(authorizationService.hasAbility(admin.getId(), domain.getCode(), "manage-customers"));
+    }
+
+    @Test
+    void overrideChangeIsVisibleImmediatelyDespiteCachedSnapshot() {
+        AdminUser admin = adminUserService.createAdminUser("cache-override@cookies.dev", "Secret123!");
+        Domain domain = createDomain("cache-override-domain");
+        Permission permission = createPermission("customers:disable", "customers", "disable");
+
+        assertFalse(authorizationService.hasPermission(admin.getId(), domain.getCode(), permission.getCode()));
+
+        adminUserService.assignPermissionOverride(999L, admin.getId(), domain.getCode(), permission.getCode(), true);
+        assertTrue(authorizationService.hasPermission(admin.getId(), domain.getCode(), permission.getCode()));
+
+        adminUserService.assignPermissionOverride(999L, admin.getId(), domain.getCode(), permission.getCode(), false);
+        assertFalse(authorizationService.hasPermission(admin.getId(), domain.getCode(), permission.getCode()));
+    }
+
+    @Test
+    void deactivationEvictsEveryDomainOfTheUser() {
+        AdminUser admin = adminUserService.createAdminUser("cache-deactivate@cookies.dev", "Secret123!");
+        Domain first = createDomain("cache-deactivate-a");
+        Domain second = createDomain("cache-deactivate-b");
+        createAbility("manage-orders");
+
+        adminUserService.assignAbility(999L, admin.getId(), first.getCode(), "manage-orders");
+        adminUserService.assignAbility(999L, admin.getId(), second.getCode(), "manage-orders");
+        assertTrue(authorizationService.hasDomainAccess(admin.getId(), first.getCode()));
+        assertTrue(authorizationService.hasDomainAccess(admin.getId(), second.getCode()));
+
+        adminUserService.deactivateAdminUser(admin.getId());
+
+        assertFalse(authorizationService.hasDomainAccess(admin.getId(), first.getCode()));
+        assertFalse(authorizationService.hasDomainAccess(admin.getId(), second.getCode()));
+    }
+
+    private Domain createDomain(String code) {
+        Domain domain = new Domain();
+        domain.setCode(code);
+        domain.setName(code);
+        return domainRepository.saveAndFlush(domain);
+    }
+
+    private Ability createAbility(String code, Permission... permissions) {
+        Ability ability = new Ability();
+        ability.setCode(code);
+        ability.setName(code);
+        for (Permission permission : permissions) {
+            ability.getPermissions().add(permission);
+        }
+        return abilityRepository.saveAndFlush(ability);
+    }
+
+    private Permission createPermission(String code, String resource, String action) {
+        Permission permission = new Permission();
+        permission.setCode(code);
+        permission.setName(code);
+        permission.setResource(resource);
+        permission.setAction(action);
+        return permissionRepository.saveAndFlush(permission);
+    }
+}
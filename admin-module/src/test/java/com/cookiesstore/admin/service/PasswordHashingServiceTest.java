@@ -0,0 +1,137 @@
+package com.cookiesstore.admin.service;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.cookiesstore.common.api.TooManyRequestsException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+
+class PasswordHashingServiceTest {
+
+    private PasswordHashingService service;
+
+    @AfterEach
+    void tearDown() {
+        if (service != null) {
+            service.destroy();
+        }
+    }
+
+    @Test
+    void hashesAndVerifiesOnThePool() {
+        service = newService(Duration.ofSeconds(10));
+
+        String hash = service.hash("Secret123!");
+
+        assertTrue(service.matches("Secret123!", hash));
+        assertFalse(service.matches("wrong", hash));
+    }
+
+    @Test
+    void rejectsImmediatelyWhenPoolAndQueueAreFull() {
+        service = newService(Duration.ofSeconds(10));
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch running = new CountDownLatch(1);
+
+        CompletableFuture<Boolean> first = CompletableFuture.supplyAsync(() -> service.await(() -> {
+            running.countDown();
+            return release.await(10, TimeUnit.SECONDS);
+        }));
+        await().atMost(Duration.ofSeconds(5)).until(() -> running.getCount() == 0);
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> service.await(() -> true));
+        await().atMost(Duration.ofSeconds(5)).until(() -> service.queuedTasks() == 1);
+
+        TooManyRequestsException rejected = assertThrows(TooManyRequestsException.class, () -> service.hash("Secret123!"));
+        assertEquals(Duration.ofSeconds(1), rejected.getRetryAfter());
+
+        release.countDown();
+        assertTrue(first.join());
+        assertTrue(queued.join());
+    }
+
+    @Test
+    void bulkHashingLeavesTheInteractivePoolAvailable() {
+        service = newService(Duration.ofSeconds(10));
+
+        CompletableFuture<List<String>> bulk = CompletableFuture.supplyAsync(
+            () -> service.hashAll(Collections.nCopies(20, "Secret123!"))
+        );
+        String hash = service.hash("Other123!");
+
+        assertEquals(0, service.queuedTasks());
+        assertTrue(service.matches("Other123!", hash));
+        List<String> hashes = bulk.join();
+        assertEquals(20, hashes.size());
+        assertTrue(BCrypt.checkpw("Secret123!", hashes.get(19)));
+    }
+
+    @Test
+    void waitingLongerThanTheTimeoutIsRejected() {
+        service = newService(Duration.ofMillis(50));
+        CountDownLatch release = new CountDownLatch(1);
+
+        assertThrows(TooManyRequestsException.class, () -> service.await(() -> {
+            release.await();
+            return true;
+        }));
+    }
+
+    @Test
+    void hashesWithTheConfiguredCostAndFlagsOnlyLowerCostsForRehash() {
+        service = newService(Duration.ofSeconds(10));
+
+        String hash = service.hash("Secret123!");
+
+        assertTrue(hash.startsWith("$2a$05$"));
+        assertFalse(service.needsRehash(hash));
+        assertTrue(service.needsRehash(BCrypt.hashpw("Secret123!", BCrypt.gensalt(4))));
+        assertFalse(service.needsRehash(BCrypt.hashpw("Secret123!", BCrypt.gensalt(6))));
+        assertTrue(service.needsRehash("not-a-hash"));
+    }
+
+    @Test
+    void backgroundRehashUsesTheConfiguredCost() throws Exception {
+        service = newService(Duration.ofSeconds(10));
+        CompletableFuture<String> rehashed = new CompletableFuture<>();
+
+        assertTrue(service.rehashInBackground("Secret123!", rehashed::complete));
+
+        String hash = rehashed.get(5, TimeUnit.SECONDS);
+        assertEquals(5, PasswordHashingService.costOf(hash));
+        assertTrue(BCrypt.checkpw("Secret123!", hash));
+    }
+
+    @Test
+    void backgroundRehashRunsOnTheBulkPool() throws Exception {
+        service = newService(Duration.ofSeconds(10));
+        CompletableFuture<String> worker = new CompletableFuture<>();
+
+        assertTrue(service.rehashInBackground("Secret123!", hash -> worker.complete(Thread.currentThread().getName())));
+
+        assertTrue(worker.get(5, TimeUnit.SECONDS).startsWith("password-hashing-bulk-"));
+        assertEquals(0, service.queuedTasks());
+    }
+
+    @Test
+    void calibrationStaysWithinConfiguredBounds() {
+        assertEquals(4, PasswordHashingService.calibrate(4, 4, Duration.ofSeconds(10)));
+        assertEquals(4, PasswordHashingService.calibrate(4, 12, Duration.ZERO));
+        int calibrated = PasswordHashingService.calibrate(4, 6, Duration.ofSeconds(10));
+        assertEquals(6, calibrated);
+    }
+
+    private PasswordHashingService newService(Duration waitTimeout) {
+        return new PasswordHashingService(1, 1, 1, waitTimeout, 5, 10, 16, Duration.ofMillis(100));
+    }
+}
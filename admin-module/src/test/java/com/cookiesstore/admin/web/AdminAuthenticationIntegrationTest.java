@@ -1,10 +1,13 @@
 package com.cookiesstore.admin.web;
 
+import static org.awaitility.Awaitility.await;
 import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.view;
@@ -12,14 +15,23 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import com.cookiesstore.admin.domain.AdminUser;
 import com.cookiesstore.admin.repository.AdminUserRepository;
 import com.cookiesstore.admin.service.AdminAuthenticationService;
+import com.cookiesstore.admin.service.PasswordHashingService;
+import com.cookiesstore.admin.web.controllers.AdminAuthApiController;
 import com.cookiesstore.admin.web.controllers.AdminAuthController;
 import com.cookiesstore.admin.web.controllers.AdminBackofficeController;
 import com.cookiesstore.common.auth.AuthCookieNames;
 import com.cookiesstore.common.auth.JwtTokenProvider;
+import com.cookiesstore.common.auth.TokenRevocationRegistry;
+import com.cookiesstore.common.auth.VerifiedTokenCache;
 import com.cookiesstore.common.config.CommonConfiguration;
+import com.cookiesstore.common.refresh.RefreshToken;
+import com.cookiesstore.common.refresh.RefreshTokenRepository;
+import com.cookiesstore.common.refresh.RefreshTokenService;
 import com.cookiesstore.common.security.JwtAuthenticationFilter;
 import com.cookiesstore.common.security.SecurityConfig;
+import com.cookiesstore.common.throttle.LoginAttemptLimiter;
 import jakarta.servlet.http.Cookie;
+import java.time.Duration;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -30,9 +42,11 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.http.MediaType;
 import org.springframework.security.crypto.bcrypt.BCrypt;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
 
 @SpringBootTest(
     classes = AdminAuthenticationIntegrationTest.TestConfig.class,
@@ -43,7 +57,9 @@ import org.springframework.test.web.servlet.MvcResult;
         "spring.datasource.driver-class-name=org.h2.Driver",
         "spring.datasource.username=sa",
         "spring.datasource.password=",
-        "spring.jpa.hibernate.ddl-auto=create-drop"
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "admin.password-hashing.cost=5",
+        "security.refresh-token.reuse-grace=PT0S"
     }
 )
 @AutoConfigureMockMvc
@@ -51,16 +67,22 @@ class AdminAuthenticationIntegrationTest {
 
     @SpringBootConfiguration
     @EnableAutoConfiguration
-    @EntityScan(basePackageClasses = {AdminUser.class})
-    @EnableJpaRepositories(basePackageClasses = {AdminUserRepository.class})
+    @EntityScan(basePackageClasses = {AdminUser.class, RefreshToken.class})
+    @EnableJpaRepositories(basePackageClasses = {AdminUserRepository.class, RefreshTokenRepository.class})
     @Import({
         CommonConfiguration.class,
         JwtTokenProvider.class,
+        VerifiedTokenCache.class,
+        TokenRevocationRegistry.class,
         JwtAuthenticationFilter.class,
         SecurityConfig.class,
         AdminBackofficeController.class,
         AdminAuthController.class,
-        AdminAuthenticationService.class
+        AdminAuthApiController.class,
+        AdminAuthenticationService.class,
+        PasswordHashingService.class,
+        LoginAttemptLimiter.class,
+        RefreshTokenService.class
     })
     static class TestConfig {
     }
@@ -71,6 +93,12 @@ class AdminAuthenticationIntegrationTest {
     @Autowired
     private AdminUserRepository adminUserRepository;
 
+    @Autowired
+    private LoginAttemptLimiter loginAttemptLimiter;
+
+    @Autowired
+    private TokenRevocationRegistry tokenRevocationRegistry;
+
     @BeforeEach
     void setup() {
         adminUserRepository.deleteAll();
@@ -122,6 +150,47 @@ class AdminAuthenticationIntegrationTest {
             .andExpect(header().string("Set-Cookie", containsString("ADMIN_AUTH_TOKEN=")));
     }
 
+    @Test
+    void successfulLoginUpgradesHashToConfiguredCost() throws Exception {
+        AdminUser adminUser = new AdminUser();
+        adminUser.setEmail("legacy-cost@cookies.dev");
+        adminUser.setPassword(BCrypt.hashpw("Secret123!", BCrypt.gensalt(4)));
+        adminUser.setActive(true);
+        Long userId = adminUserRepository.save(adminUser).getId();
+
+        mockMvc.perform(post("/admin/login")
+                .param("email", "legacy-cost@cookies.dev")
+                .param("password", "Secret123!"))
+            .andExpect(redirectedUrl("/admin"));
+
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> {
+            String upgraded = adminUserRepository.findById(userId).orElseThrow().getPasswordHash();
+            assertTrue(upgraded.startsWith("$2a$05$"));
+            assertTrue(BCrypt.checkpw("Secret123!", upgraded));
+        });
+    }
+
+    @Test
+    void repeatedFailuresForOneEmailAreThrottledBeforeCredentialCheck() throws Exception {
+        for (int attempt = 0; attempt < 5; attempt++) {
+            mockMvc.perform(post("/admin/login")
+                    .with(remoteAddr("10.0.0.15"))
+                    .param("email", "stuffing-target@cookies.dev")
+                    .param("password", "guess-" + attempt))
+                .andExpect(redirectedUrl("/admin/login?error"));
+        }
+
+        mockMvc.perform(post("/admin/login")
+                .with(remoteAddr("10.0.0.15"))
+                .param("email", "stuffing-target@cookies.dev")
+                .param("password", "guess-final"))
+            .andExpect(status().is3xxRedirection())
+            .andExpect(redirectedUrl("/admin/login?throttled"))
+            .andExpect(header().exists("Retry-After"))
+            .andExpect(header().doesNotExist("Set-Cookie"));
+        assertTrue(loginAttemptLimiter.blockedByEmail() >= 1);
+    }
+
     @Test
     void invalidLoginRedirectsWithErrorAndNoAuthCookie() throws Exception {
         mockMvc.perform(post("/admin/login")
@@ -171,4 +240,102 @@ class AdminAuthenticationIntegrationTest {
             .andExpect(header().string("Set-Cookie", containsString("ADMIN_AUTH_TOKEN=")))
             .andExpect(header().string("Set-Cookie", containsString("Max-Age=0")));
     }
+
+    @Test
+    void refreshEndpointRotatesRefreshToken() throws Exception {
+        Cookie refreshCookie = login().getResponse().getCookie(AuthCookieNames.ADMIN_REFRESH_TOKEN);
+
+        mockMvc.perform(post("/api/auth/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"refreshToken\":\"" + refreshCookie.getValue() + "\"}"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.success").value(true))
+            .andExpect(jsonPath("$.data.accessToken").isNotEmpty())
+            .andExpect(jsonPath("$.data.refreshToken").isNotEmpty())
+            .andExpect(header().doesNotExist("Set-Cookie"));
+    }
+
+    @Test
+    void reusedRefreshTokenRevokesItsWholeFamily() throws Exception {
+        Cookie original = login().getResponse().getCookie(AuthCookieNames.ADMIN_REFRESH_TOKEN);
+
+        MvcResult rotated = mockMvc.perform(post("/api/auth/refresh").cookie(original))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Set-Cookie", containsString("ADMIN_AUTH_TOKEN=")))
+            .andReturn();
+        Cookie successor = rotated.getResponse().getCookie(AuthCookieNames.ADMIN_REFRESH_TOKEN);
+
+        mockMvc.perform(post("/api/auth/refresh").cookie(original))
+            .andExpect(status().isUnauthorized())
+            .andExpect(jsonPath("$.error.code").value("INVALID_REFRESH_TOKEN"));
+        mockMvc.perform(post("/api/auth/refresh").cookie(successor))
+            .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void missingAccessCookieIsRenewedFromRefreshCookie() throws Exception {
+        Cookie refreshCookie = login().getResponse().getCookie(AuthCookieNames.ADMIN_REFRESH_TOKEN);
+
+        mockMvc.perform(get("/admin").cookie(refreshCookie))
+            .andExpect(status().isOk())
+            .andExpect(view().name("backoffice/index"))
+            .andExpect(header().string("Set-Cookie", containsString("ADMIN_AUTH_TOKEN=")));
+    }
+
+    @Test
+    void logoutRevokesRefreshToken() throws Exception {
+        MvcResult loginResult = login();
+        Cookie authCookie = loginResult.getResponse().getCookie(AuthCookieNames.ADMIN_AUTH_TOKEN);
+        Cookie refreshCookie = loginResult.getResponse().getCookie(AuthCookieNames.ADMIN_REFRESH_TOKEN);
+
+        mockMvc.perform(post("/admin/logout").cookie(authCookie, refreshCookie))
+            .andExpect(redirectedUrl("/admin/login?logout"));
+
+        mockMvc.perform(post("/api/auth/refresh").cookie(refreshCookie))
+            .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void logoutRevokesAccessToken() throws Exception {
+        Cookie authCookie = login().getResponse().getCookie(AuthCookieNames.ADMIN_AUTH_TOKEN);
+
+        mockMvc.perform(post("/admin/logout").cookie(authCookie))
+            .andExpect(redirectedUrl("/admin/login?logout"));
+
+        mockMvc.perform(get("/admin").cookie(authCookie))
+            .andExpect(status().is3xxRedirection())
+            .andExpect(redirectedUrl("/admin/login?error"));
+    }
+
+    @Test
+    void revokedUserLosesAccessAndRefreshTokens() throws Exception {
+        MvcResult loginResult = login();
+        Cookie authCookie = loginResult.getResponse().getCookie(AuthCookieNames.ADMIN_AUTH_TOKEN);
+        Cookie refreshCookie = loginResult.getResponse().getCookie(AuthCookieNames.ADMIN_REFRESH_TOKEN);
+        Long userId = adminUserRepository.findByEmail("admin@cookies.dev").orElseThrow().getId();
+
+        tokenRevocationRegistry.revokeUser(userId);
+
+        mockMvc.perform(get("/admin").cookie(authCookie, refreshCookie))
+            .andExpect(status().is3xxRedirection())
+            .andExpect(redirectedUrl("/admin/login?error"));
+        mockMvc.perform(post("/api/auth/refresh").cookie(refreshCookie))
+            .andExpect(status().isUnauthorized());
+        assertTrue(tokenRevocationRegistry.rejected() >= 1);
+    }
+
+    private MvcResult login() throws Exception {
+        return mockMvc.perform(post("/admin/login")
+                .param("email", "admin@cookies.dev")
+                .param("password", "Secret123!"))
+            .andExpect(redirectedUrl("/admin"))
+            .andReturn();
+    }
+
+    private static RequestPostProcessor remoteAddr(String address) {
+        return request -> {
+            request.setRemoteAddr(address);
+            return request;
+        };
+    }
 }
@@ -1,5 +1,6 @@
 package com.cookiesstore.admin.web;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -11,9 +12,14 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import com.cookiesstore.admin.domain.AdminUser;
 import com.cookiesstore.admin.repository.AdminUserRepository;
 import com.cookiesstore.admin.service.AdminAbilityAssignmentService;
+import com.cookiesstore.admin.service.AdminUserImportService;
 import com.cookiesstore.admin.service.AdminUserService;
+import com.cookiesstore.admin.service.PasswordHashingService;
 import com.cookiesstore.admin.web.controllers.AdminUserApiController;
 import com.cookiesstore.common.auth.JwtTokenProvider;
+import com.cookiesstore.common.auth.TokenRevocationRegistry;
+import com.cookiesstore.common.auth.VerifiedTokenCache;
+import com.cookiesstore.common.authorization.cache.PermissionSnapshotCache;
 import com.cookiesstore.common.authorization.domain.Ability;
 import com.cookiesstore.common.authorization.domain.Domain;
 import com.cookiesstore.common.authorization.domain.Permission;
@@ -21,6 +27,8 @@ import com.cookiesstore.common.authorization.domain.UserDomainAbility;
 import com.cookiesstore.common.authorization.domain.UserDomainPermissionOverride;
 import com.cookiesstore.common.authorization.evaluator.AuthorizationAspect;
 import com.cookiesstore.common.authorization.evaluator.DomainAuthorizationEvaluator;
+import com.cookiesstore.common.authorization.registry.PermissionRegistry;
+import com.cookiesstore.common.authorization.registry.ReferenceDataRegistry;
 import com.cookiesstore.common.authorization.repository.AbilityRepository;
 import com.cookiesstore.common.authorization.repository.DomainRepository;
 import com.cookiesstore.common.authorization.repository.PermissionRepository;
@@ -42,6 +50,7 @@ import org.springframework.context.annotation.Import;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.security.crypto.bcrypt.BCrypt;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
@@ -55,7 +64,9 @@ import org.springframework.transaction.annotation.Transactional;
         "spring.datasource.driver-class-name=org.h2.Driver",
         "spring.datasource.username=sa",
         "spring.datasource.password=",
-        "spring.jpa.hibernate.ddl-auto=create-drop"
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "admin.users.import.max-rows=6",
+        "admin.users.import.max-size=1KB"
     }
 )
 @AutoConfigureMockMvc
@@ -84,13 +95,20 @@ class AdminUserControllerIntegrationTest {
     @Import({
         CommonConfiguration.class,
         JwtTokenProvider.class,
+        VerifiedTokenCache.class,
+        TokenRevocationRegistry.class,
         JwtAuthenticationFilter.class,
         SecurityConfig.class,
+        PermissionSnapshotCache.class,
+        PermissionRegistry.class,
         DomainAuthorizationService.class,
         DomainAuthorizationEvaluator.class,
         AuthorizationAspect.class,
         AdminAbilityAssignmentService.class,
+        ReferenceDataRegistry.class,
         AdminUserService.class,
+        PasswordHashingService.class,
+        AdminUserImportService.class,
         AdminUserApiController.class
     })
     static class TestConfig {
@@ -155,7 +173,9 @@ class AdminUserControllerIntegrationTest {
                 .header(HttpHeaders.AUTHORIZATION, bearer(actorId)))
             .andExpect(status().isOk())
             .andExpect(jsonPath("$.success").value(true))
-            .andExpect(jsonPath("$.data[0].email").value("listed@cookies.dev"));
+            .andExpect(jsonPath("$.data[0].email").value("listed@cookies.dev"))
+            .andExpect(jsonPath("$.page.hasMore").value(false))
+            .andExpect(jsonPath("$.page.nextCursor").doesNotExist());
     }
 
     @Test
@@ -191,6 +211,110 @@ class AdminUserControllerIntegrationTest {
             .andExpect(jsonPath("$.data.email").value("create@cookies.dev"));
     }
 
+    @Test
+    void importEndpointReportsEveryRowAndGrantsTheRole() throws Exception {
+        Domain domain = createDomain("example.test");
+        Ability manageUsers = createAbility("manage-users");
+
+        Long actorId = 5010L;
+        grantAbility(actorId, domain, manageUsers);
+        createAdmin("existing@cookies.dev");
+
+        String csv = String.join("\n",
+            "email,password,roleCode",
+            "first@cookies.dev,Secret123!,manage-users",
+            "\"second@cookies.dev\",\"Se,cret\"\"1\",manage-users",
+            "existing@cookies.dev,Secret123!,manage-users",
+            "not-an-email,Secret123!,manage-users",
+            "third@cookies.dev,Secret123!,unknown-role",
+            "first@cookies.dev,Secret123!,manage-users"
+        );
+
+        mockMvc.perform(post("/api/domains/example.test/admin/users/import")
+                .header(HttpHeaders.AUTHORIZATION, bearer(actorId))
+                .contentType("text/csv")
+                .content(csv))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.created").value(2))
+            .andExpect(jsonPath("$.data.duplicates").value(1))
+            .andExpect(jsonPath("$.data.rejected").value(3))
+            .andExpect(jsonPath("$.data.results[0].line").value(2))
+            .andExpect(jsonPath("$.data.results[0].status").value("CREATED"))
+            .andExpect(jsonPath("$.data.results[2].status").value("DUPLICATE"))
+            .andExpect(jsonPath("$.data.results[3].message").value("Invalid email"))
+            .andExpect(jsonPath("$.data.results[4].message").value("Unknown role: unknown-role"));
+
+        AdminUser second = adminUserRepository.findByEmail("second@cookies.dev").orElseThrow();
+        assertTrue(BCrypt.checkpw("Se,cret\"1", second.getPasswordHash()));
+        UserDomainAbility grant = userDomainAbilityRepository
+            .findByUserIdAndDomainCodeAndAbilityCode(second.getId(), "example.test", "manage-users")
+            .orElseThrow();
+        assertTrue(grant.isGranted());
+        assertEquals(actorId, grant.getGrantedBy());
+    }
+
+    @Test
+    void importEndpointAcceptsJsonLines() throws Exception {
+        Domain domain = createDomain("example.test");
+        Ability manageUsers = createAbility("manage-users");
+
+        Long actorId = 5011L;
+        grantAbility(actorId, domain, manageUsers);
+
+        String ndjson = "{\"email\":\"json@cookies.dev\",\"password\":\"Secret123!\",\"roleCode\":\"manage-users\"}\n"
+            + "{broken\n";
+
+        mockMvc.perform(post("/api/domains/example.test/admin/users/import")
+                .header(HttpHeaders.AUTHORIZATION, bearer(actorId))
+                .contentType("application/x-ndjson")
+                .content(ndjson))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.created").value(1))
+            .andExpect(jsonPath("$.data.rejected").value(1));
+
+        assertTrue(adminUserRepository.findByEmail("json@cookies.dev").isPresent());
+    }
+
+    @Test
+    void importStopsAtTheRowLimit() throws Exception {
+        Domain domain = createDomain("example.test");
+        Ability manageUsers = createAbility("manage-users");
+
+        Long actorId = 5012L;
+        grantAbility(actorId, domain, manageUsers);
+
+        StringBuilder csv = new StringBuilder("email,password,roleCode");
+        for (int i = 1; i <= 8; i++) {
+            csv.append("\nlimit").append(i).append("@cookies.dev,Secret123!,manage-users");
+        }
+
+        mockMvc.perform(post("/api/domains/example.test/admin/users/import")
+                .header(HttpHeaders.AUTHORIZATION, bearer(actorId))
+                .contentType("text/csv")
+                .content(csv.toString()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.created").value(6))
+            .andExpect(jsonPath("$.data.rejected").value(1))
+            .andExpect(jsonPath("$.data.results[6].line").value(8));
+
+        assertTrue(adminUserRepository.findByEmail("limit7@cookies.dev").isEmpty());
+    }
+
+    @Test
+    void importRejectsOversizedUploads() throws Exception {
+        Domain domain = createDomain("example.test");
+        Ability manageUsers = createAbility("manage-users");
+
+        Long actorId = 5013L;
+        grantAbility(actorId, domain, manageUsers);
+
+        mockMvc.perform(post("/api/domains/example.test/admin/users/import")
+                .header(HttpHeaders.AUTHORIZATION, bearer(actorId))
+                .contentType("text/csv")
+                .content("email,password,roleCode\n" + "x".repeat(2048)))
+            .andExpect(status().isPayloadTooLarge());
+    }
+
     @Test
     void getUpdateDeleteUserEndpointsWork() throws Exception {
         Domain domain = createDomain("example.test");
@@ -1,14 +1,17 @@
 package com.cookiesstore.admin.web;
 
 import com.cookiesstore.admin.domain.AdminUser;
+import com.cookiesstore.admin.service.AdminUserListing;
+import com.cookiesstore.admin.service.AdminUserPage;
 import com.cookiesstore.admin.service.AdminUserService;
 import com.cookiesstore.admin.web.controllers.AdminUserViewController;
 import com.cookiesstore.admin.web.interceptos.AdminUserFormModelAdvice;
-import com.cookiesstore.common.authorization.domain.Ability;
+import com.cookiesstore.common.authorization.registry.ReferenceData.RoleDefinition;
 import org.springframework.context.MessageSource;
 import org.springframework.context.support.StaticMessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
 import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.security.authentication.TestingAuthenticationToken;
@@ -38,9 +41,7 @@ class AdminUserControllerViewTest {
 
     @Test
     void shouldRenderUserManagementListView() throws Exception {
-        Ability role = new Ability();
-        role.setCode("manage-users");
-        role.setName("Manage Users");
+        RoleDefinition role = new RoleDefinition(1L, "manage-users", "Manage Users", List.of());
 
         AdminUser user = Mockito.mock(AdminUser.class);
         when(user.getId()).thenReturn(1L);
@@ -48,21 +49,23 @@ class AdminUserControllerViewTest {
 
         mockAuthenticatedUser(99L);
         when(adminUserService.resolveActorDomainCode(99L)).thenReturn("example.test");
-        when(adminUserService.listAdminUsersByDomain("example.test")).thenReturn(List.of(user));
-        when(adminUserService.findPrimaryRoleCode(1L, "example.test")).thenReturn("manage-users");
+        when(adminUserService.listAdminUsersPage("example.test", null, null))
+            .thenReturn(new AdminUserPage(List.of(new AdminUserListing(user, "manage-users")), "next-token", 50));
 
         mockMvc.perform(get("/admin/users"))
             .andExpect(status().isOk())
             .andExpect(view().name("backoffice/users/index"))
-            .andExpect(model().attributeExists("users"))
+            .andExpect(model().attribute("users", List.of(user)))
+            .andExpect(model().attribute("userRoles", Map.of(1L, "manage-users")))
+            .andExpect(model().attribute("nextCursor", "next-token"))
             .andExpect(model().attribute("domainCode", "example.test"));
+
+        verify(adminUserService, Mockito.never()).findPrimaryRoleCode(Mockito.anyLong(), Mockito.anyString());
     }
 
     @Test
     void shouldRenderCreateUserFormView() throws Exception {
-        Ability role = new Ability();
-        role.setCode("manage-users");
-        role.setName("Manage Users");
+        RoleDefinition role = new RoleDefinition(1L, "manage-users", "Manage Users", List.of());
 
         mockAuthenticatedUser(99L);
         when(adminUserService.resolveActorDomainCode(99L)).thenReturn("example.test");
@@ -79,9 +82,7 @@ class AdminUserControllerViewTest {
 
     @Test
     void shouldCreateUserAndRedirectToList() throws Exception {
-        Ability role = new Ability();
-        role.setCode("manage-users");
-        role.setName("Manage Users");
+        RoleDefinition role = new RoleDefinition(1L, "manage-users", "Manage Users", List.of());
 
         mockAuthenticatedUser(99L);
         when(adminUserService.resolveActorDomainCode(99L)).thenReturn("example.test");
@@ -99,9 +100,7 @@ class AdminUserControllerViewTest {
 
     @Test
     void shouldRenderEditUserFormView() throws Exception {
-        Ability role = new Ability();
-        role.setCode("manage-users");
-        role.setName("Manage Users");
+        RoleDefinition role = new RoleDefinition(1L, "manage-users", "Manage Users", List.of());
 
         AdminUser user = new AdminUser();
         user.setEmail("edit@cookies.dev");
@@ -125,9 +124,7 @@ class AdminUserControllerViewTest {
 
     @Test
     void shouldUpdateUserAndRedirectToList() throws Exception {
-        Ability role = new Ability();
-        role.setCode("manage-users");
-        role.setName("Manage Users");
+        RoleDefinition role = new RoleDefinition(1L, "manage-users", "Manage Users", List.of());
 
         mockAuthenticatedUser(99L);
         when(adminUserService.resolveUserDomainCode(42L)).thenReturn("example.test");
@@ -152,6 +149,26 @@ class AdminUserControllerViewTest {
         verify(adminUserService).deactivateAdminUser(42L);
     }
 
+    @Test
+    void shouldReuseRoleOptionsUntilRoleCatalogVersionChanges() throws Exception {
+        RoleDefinition role = new RoleDefinition(1L, "manage-users", "Manage Users", List.of());
+
+        mockAuthenticatedUser(99L);
+        when(adminUserService.resolveActorDomainCode(99L)).thenReturn("example.test");
+        when(adminUserService.roleCatalogVersion()).thenReturn(1L, 1L, 2L);
+        when(adminUserService.listRoles()).thenReturn(List.of(role));
+
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(get("/admin/users/new"))
+                .andExpect(status().isOk())
+                .andExpect(model().attribute("roles", List.of(
+                    new AdminUserFormModelAdvice.RoleOption("manage-users", "Manage Users", List.of())
+                )));
+        }
+
+        verify(adminUserService, Mockito.times(2)).listRoles();
+    }
+
     private void mockAuthenticatedUser(Long userId) {
         SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken(String.valueOf(userId), null));
         LocaleContextHolder.setLocale(java.util.Locale.ENGLISH);
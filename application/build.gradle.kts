@@ -11,3 +11,13 @@ dependencies {
     implementation("org.flywaydb:flyway-core")
     runtimeOnly("org.postgresql:postgresql")
 }
+
+// HTTP load driver for a running instance; see "Virtual Threads" in the README
+val loadTest by sourceSets.creating
+
+tasks.register<JavaExec>("loadTest") {
+    description = "Runs AdminLoadTest against a running application (-PloadTest.<setting>=<value>)"
+    classpath = loadTest.runtimeClasspath
+    mainClass.set("com.cookiesstore.loadtest.AdminLoadTest")
+    systemProperties(providers.gradlePropertiesPrefixedBy("loadTest.").get())
+}
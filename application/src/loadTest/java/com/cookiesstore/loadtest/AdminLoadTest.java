@@ -0,0 +1,179 @@
+package com.cookiesstore.loadtest;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Closed-loop HTTP load against a running application: {@code concurrency} clients each send their next
+ * request as soon as the previous one answers, for {@code duration}, after an unrecorded {@code warmup}.
+ * Run it once against the app started with {@code VIRTUAL_THREADS_ENABLED=false} and once with {@code true};
+ * the client always uses virtual threads so that it is never the limit.
+ *
+ * <p>Scenarios: {@code list} pages the admin users of a domain (JWT filter, Redis authorization, one Hikari
+ * connection per request), {@code login} posts the admin login form (BCrypt on the hashing pool plus the
+ * refresh-token store) and {@code mixed} sends one login per nine listings. The login account needs the
+ * {@code manage-users} ability in {@code domain}. Run with {@code ./gradlew :application:loadTest}.
+ */
+public final class AdminLoadTest {
+
+    private static final String AUTH_COOKIE = "ADMIN_AUTH_TOKEN";
+
+    private final HttpClient client;
+    private final URI baseUrl;
+    private final String domain;
+    private final String loginForm;
+    private final String scenario;
+
+    private AdminLoadTest(HttpClient client, URI baseUrl, String domain, String email, String password, String scenario) {
+        this.client = client;
+        this.baseUrl = baseUrl;
+        this.domain = domain;
+        this.loginForm = "email=" + URLEncoder.encode(email, StandardCharsets.UTF_8)
+            + "&password=" + URLEncoder.encode(password, StandardCharsets.UTF_8);
+        this.scenario = scenario;
+    }
+
+    public static void main(String[] args) throws Exception {
+        URI baseUrl = URI.create(setting("baseUrl", "http://localhost:8080"));
+        String scenario = setting("scenario", "list");
+        int concurrency = Integer.parseInt(setting("concurrency", "1000"));
+        Duration warmup = Duration.parse(setting("warmup", "PT30S"));
+        Duration duration = Duration.parse(setting("duration", "PT60S"));
+        if (!List.of("list", "login", "mixed").contains(scenario)) {
+            throw new IllegalArgumentException("Unknown scenario " + scenario + "; use list, login or mixed");
+        }
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(clients)
+                .build();
+            AdminLoadTest test = new AdminLoadTest(
+                client,
+                baseUrl,
+                setting("domain", "main-store"),
+                setting("email", "admin@example.com"),
+                setting("password", "admin"),
+                scenario
+            );
+            String token = test.login()
+                .orElseThrow(() -> new IllegalStateException("Login failed; check email, password and the login throttle"));
+
+            System.out.printf("%s scenario, %d clients, %s warmup, %s measured, against %s%n",
+                scenario, concurrency, warmup, duration, baseUrl);
+            test.run(clients, concurrency, token, warmup).report("warmup", warmup);
+            test.run(clients, concurrency, token, duration).report("measured", duration);
+        }
+    }
+
+    private Result run(ExecutorService clients, int concurrency, String token, Duration duration) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Future<Result>> running = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            int offset = i;
+            running.add(clients.submit(() -> loop(token, deadline, offset)));
+        }
+        Result total = new Result(new long[0], 0, 0);
+        for (Future<Result> client : running) {
+            total = total.plus(client.get());
+        }
+        return total;
+    }
+
+    private Result loop(String token, long deadline, int offset) {
+        long[] latencies = new long[1024];
+        int count = 0;
+        int errors = 0;
+        for (int request = offset; System.nanoTime() < deadline; request++) {
+            long started = System.nanoTime();
+            boolean ok;
+            try {
+                ok = switch (scenario) {
+                    case "login" -> login().isPresent();
+                    case "mixed" -> request % 10 == 0 ? login().isPresent() : list(token);
+                    default -> list(token);
+                };
+            } catch (Exception ex) {
+                if (ex instanceof InterruptedException) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                ok = false;
+            }
+            if (!ok) {
+                errors++;
+                continue;
+            }
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = System.nanoTime() - started;
+        }
+        return new Result(Arrays.copyOf(latencies, count), count, errors);
+    }
+
+    private Optional<String> login() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(baseUrl.resolve("/admin/login"))
+            .timeout(Duration.ofSeconds(30))
+            .header("Content-Type", "application/x-www-form-urlencoded")
+            .POST(HttpRequest.BodyPublishers.ofString(loginForm))
+            .build();
+        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+        // A successful login redirects to /admin and sets the access cookie; failures redirect back to the form.
+        return response.headers().allValues("Set-Cookie").stream()
+            .filter(cookie -> cookie.startsWith(AUTH_COOKIE + "="))
+            .map(cookie -> cookie.split(";", 2)[0].substring(AUTH_COOKIE.length() + 1))
+            .filter(value -> !value.isEmpty())
+            .findFirst();
+    }
+
+    private boolean list(String token) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(baseUrl.resolve("/api/domains/" + domain + "/admin/users?size=20"))
+            .timeout(Duration.ofSeconds(30))
+            .header("Cookie", AUTH_COOKIE + "=" + token)
+            .GET()
+            .build();
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+    }
+
+    private static String setting(String name, String defaultValue) {
+        return System.getProperty("loadTest." + name, defaultValue);
+    }
+
+    private record Result(long[] latencies, long completed, long errors) {
+
+        Result plus(Result other) {
+            long[] merged = Arrays.copyOf(latencies, latencies.length + other.latencies.length);
+            System.arraycopy(other.latencies, 0, merged, latencies.length, other.latencies.length);
+            return new Result(merged, completed + other.completed, errors + other.errors);
+        }
+
+        void report(String label, Duration duration) {
+            Arrays.sort(latencies);
+            System.out.printf("  %-8s %,d ok, %,d errors, %,.0f req/s, p50 %.1f ms, p99 %.1f ms, max %.1f ms%n",
+                label, completed, errors, completed / (duration.toMillis() / 1000.0),
+                percentile(0.50), percentile(0.99), percentile(1.0));
+        }
+
+        private double percentile(double fraction) {
+            if (latencies.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(fraction * latencies.length) - 1;
+            return latencies[Math.max(0, index)] / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1 @@
+CREATE INDEX IF NOT EXISTS idx_admin_users_created_at_id ON admin_users (created_at DESC, id DESC);
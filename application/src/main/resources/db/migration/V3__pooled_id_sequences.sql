@@ -0,0 +1,8 @@
+-- Entities allocate ids through Hibernate's pooled optimizer (allocationSize = 50), which reserves a
+-- block of 50 ids per nextval so inserts can be JDBC-batched. The sequences must step by the same amount.
+ALTER SEQUENCE domains_id_seq INCREMENT BY 50;
+ALTER SEQUENCE permissions_id_seq INCREMENT BY 50;
+ALTER SEQUENCE abilities_id_seq INCREMENT BY 50;
+ALTER SEQUENCE admin_users_id_seq INCREMENT BY 50;
+ALTER SEQUENCE user_domain_abilities_id_seq INCREMENT BY 50;
+ALTER SEQUENCE user_domain_permission_overrides_id_seq INCREMENT BY 50;
@@ -1,3 +1,7 @@
+plugins {
+    id("me.champeau.jmh") version "0.7.2"
+}
+
 dependencies {
     // Common utilities and shared code
     implementation("org.springframework.boot:spring-boot-starter-security")
@@ -11,6 +15,9 @@ dependencies {
     runtimeOnly("io.jsonwebtoken:jjwt-impl:0.12.5")
     runtimeOnly("io.jsonwebtoken:jjwt-jackson:0.12.5")
     
+    // Bounded in-memory caches
+    implementation("com.github.ben-manes.caffeine:caffeine")
+
     // Spring Boot Redis support
     implementation("org.springframework.boot:spring-boot-starter-data-redis")
     
@@ -32,4 +39,25 @@ dependencies {
     
     // JUnit 5
     testImplementation("org.junit.jupiter:junit-jupiter")
+
+    // In-memory database for JMH insert benchmarks, and the driver to run them against Postgres
+    jmh("com.h2database:h2")
+    jmh("org.postgresql:postgresql:42.7.1")
+
+    // Servlet request/response mocks for the filter benchmark
+    jmh("org.springframework:spring-test")
+}
+
+jmh {
+    fork.set(1)
+    warmupIterations.set(2)
+    iterations.set(3)
+    // ./gradlew :common:jmh -PjmhIncludes=<regex> runs a single benchmark class
+    providers.gradleProperty("jmhIncludes").orNull?.let { includes.add(it) }
+    // -PjmhJdbcUrl/-PjmhJdbcUser/-PjmhJdbcPassword point IdGenerationBatchBenchmark at a real database
+    jvmArgsAppend.addAll(listOfNotNull(
+        providers.gradleProperty("jmhJdbcUrl").orNull?.let { "-Didgen.jdbc.url=$it" },
+        providers.gradleProperty("jmhJdbcUser").orNull?.let { "-Didgen.jdbc.user=$it" },
+        providers.gradleProperty("jmhJdbcPassword").orNull?.let { "-Didgen.jdbc.password=$it" }
+    ))
 }
@@ -0,0 +1,72 @@
+package com.cookiesstore.common.auth;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.SecretKey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Tokens per second for issuing and verifying, comparing the former per-call parser/builder
+ * ({@code legacy}), the prebuilt jjwt parser ({@code prebuilt}) and the compact HMAC path ({@code fast}).
+ * {@code security.jwt.fast-path} stays off until a run here shows {@code fast} ahead of {@code prebuilt}.
+ * Run with {@code ./gradlew :common:jmh -PjmhIncludes=JwtTokenProviderBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtTokenProviderBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-with-at-least-32-bytes-long-1234567890";
+
+    @Param({"legacy", "prebuilt", "fast"})
+    public String mode;
+
+    private JwtTokenProvider provider;
+    private SecretKey key;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(SECRET);
+        properties.setExpiration(Duration.ofHours(1));
+        properties.setFastPath("fast".equals(mode));
+        provider = new JwtTokenProvider(properties);
+        key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        token = provider.generateToken(42L);
+    }
+
+    @Benchmark
+    public String generate() {
+        if ("legacy".equals(mode)) {
+            Instant now = Instant.now();
+            return Jwts.builder()
+                .subject("42")
+                .issuedAt(Date.from(now))
+                .expiration(Date.from(now.plus(Duration.ofHours(1))))
+                .signWith(key)
+                .compact();
+        }
+        return provider.generateToken(42L);
+    }
+
+    @Benchmark
+    public Long verify() {
+        if ("legacy".equals(mode)) {
+            return Long.parseLong(Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload().getSubject());
+        }
+        return provider.verify(token).orElseThrow().userId();
+    }
+}
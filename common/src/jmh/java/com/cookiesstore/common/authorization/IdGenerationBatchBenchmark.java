@@ -0,0 +1,157 @@
+package com.cookiesstore.common.authorization;
+
+import com.cookiesstore.common.persistence.IdAllocation;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Rows per second for grant inserts as Hibernate issues them: one round trip per row returning the
+ * generated key under {@code IDENTITY}, versus one {@code nextval} per {@link IdAllocation#SIZE} ids plus a
+ * JDBC batch under a pooled sequence. Defaults to in-memory H2 in PostgreSQL mode, which only shows statement
+ * overhead; for figures worth recording point it at Postgres with
+ * {@code ./gradlew :common:jmh -PjmhIncludes=IdGenerationBatchBenchmark -PjmhJdbcUrl=jdbc:postgresql://host/db
+ * -PjmhJdbcUser=... -PjmhJdbcPassword=...}. It creates and truncates its own {@code identity_grants} and
+ * {@code pooled_grants} tables, so use a scratch database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class IdGenerationBatchBenchmark {
+
+    private static final int ROWS = 500;
+    private static final int ALLOCATION_SIZE = IdAllocation.SIZE;
+
+    @Param({"identity", "pooled"})
+    public String mode;
+
+    private Connection connection;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(
+            System.getProperty("idgen.jdbc.url", "jdbc:h2:mem:idgen;MODE=PostgreSQL;DB_CLOSE_DELAY=-1"),
+            System.getProperty("idgen.jdbc.user", "sa"),
+            System.getProperty("idgen.jdbc.password", "")
+        );
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("""
+                create table if not exists identity_grants (
+                    id bigint generated by default as identity primary key,
+                    user_id bigint not null, domain_id bigint not null, ability_id bigint not null,
+                    granted boolean not null, created_at timestamp with time zone not null)
+                """);
+            statement.execute("""
+                create table if not exists pooled_grants (
+                    id bigint primary key,
+                    user_id bigint not null, domain_id bigint not null, ability_id bigint not null,
+                    granted boolean not null, created_at timestamp with time zone not null)
+                """);
+            statement.execute("create sequence if not exists pooled_grants_id_seq start with 1 increment by " + ALLOCATION_SIZE);
+        }
+        connection.setAutoCommit(false);
+    }
+
+    @Setup(Level.Iteration)
+    public void truncate() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("truncate table identity_grants");
+            statement.execute("truncate table pooled_grants");
+        }
+        connection.commit();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public long insertGrants() throws SQLException {
+        long checksum = "identity".equals(mode) ? insertWithIdentity() : insertWithPooledSequence();
+        connection.commit();
+        return checksum;
+    }
+
+    private long insertWithIdentity() throws SQLException {
+        long checksum = 0;
+        Timestamp now = Timestamp.from(Instant.now());
+        try (PreparedStatement insert = connection.prepareStatement(
+            "insert into identity_grants (user_id, domain_id, ability_id, granted, created_at) values (?, ?, ?, true, ?)",
+            Statement.RETURN_GENERATED_KEYS
+        )) {
+            for (int i = 0; i < ROWS; i++) {
+                bind(insert, i, now);
+                insert.executeUpdate();
+                try (ResultSet keys = insert.getGeneratedKeys()) {
+                    keys.next();
+                    checksum += keys.getLong(1);
+                }
+            }
+        }
+        return checksum;
+    }
+
+    private long insertWithPooledSequence() throws SQLException {
+        long checksum = 0;
+        Timestamp now = Timestamp.from(Instant.now());
+        try (PreparedStatement nextval = connection.prepareStatement("select nextval('pooled_grants_id_seq')");
+             PreparedStatement insert = connection.prepareStatement(
+                 "insert into pooled_grants (id, user_id, domain_id, ability_id, granted, created_at) values (?, ?, ?, ?, true, ?)"
+             )) {
+            long next = 0;
+            long high = -1;
+            for (int i = 0; i < ROWS; i++) {
+                if (next > high) {
+                    try (ResultSet value = nextval.executeQuery()) {
+                        value.next();
+                        high = value.getLong(1);
+                    }
+                    next = high - ALLOCATION_SIZE + 1;
+                }
+                long id = next++;
+                insert.setLong(1, id);
+                bindShifted(insert, i, now);
+                insert.addBatch();
+                checksum += id;
+                if ((i + 1) % ALLOCATION_SIZE == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        return checksum;
+    }
+
+    private static void bind(PreparedStatement insert, int row, Timestamp now) throws SQLException {
+        insert.setLong(1, row);
+        insert.setLong(2, 1L);
+        insert.setLong(3, row % 7);
+        insert.setTimestamp(4, now);
+    }
+
+    private static void bindShifted(PreparedStatement insert, int row, Timestamp now) throws SQLException {
+        insert.setLong(2, row);
+        insert.setLong(3, 1L);
+        insert.setLong(4, row % 7);
+        insert.setTimestamp(5, now);
+    }
+}
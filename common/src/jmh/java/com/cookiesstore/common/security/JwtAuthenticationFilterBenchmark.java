@@ -0,0 +1,98 @@
+package com.cookiesstore.common.security;
+
+import com.cookiesstore.common.auth.AuthCookieNames;
+import com.cookiesstore.common.auth.JwtProperties;
+import com.cookiesstore.common.auth.JwtTokenProvider;
+import com.cookiesstore.common.auth.TokenRevocationRegistry;
+import com.cookiesstore.common.auth.VerifiedTokenCache;
+import com.cookiesstore.common.refresh.RefreshTokenService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.Cookie;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * Per-request overhead of {@link JwtAuthenticationFilter}: token-less paths ({@code public}, {@code health})
+ * that exit before any token work, and authenticated requests carrying a bearer header ({@code bearer}) or
+ * the access cookie among other cookies ({@code cookie}). No figures have been recorded yet, so nothing in
+ * the filter should be justified by them. Run with
+ * {@code ./gradlew :common:jmh -PjmhIncludes=JwtAuthenticationFilterBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-with-at-least-32-bytes-long-1234567890";
+    private static final FilterChain CHAIN = (request, response) -> { };
+
+    @Param({"public", "health", "bearer", "cookie"})
+    public String scenario;
+
+    private JwtAuthenticationFilter filter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() throws Exception {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(SECRET);
+        properties.setExpiration(Duration.ofHours(1));
+        JwtTokenProvider provider = new JwtTokenProvider(properties);
+        TokenRevocationRegistry revocations = new TokenRevocationRegistry(
+            properties,
+            new StaticListableBeanFactory().getBeanProvider(StringRedisTemplate.class)
+        );
+        revocations.afterPropertiesSet();
+        filter = new JwtAuthenticationFilter(
+            new VerifiedTokenCache(provider, properties),
+            revocations,
+            new StaticListableBeanFactory().getBeanProvider(RefreshTokenService.class)
+        );
+
+        String token = provider.generateToken(42L);
+        request = switch (scenario) {
+            case "public" -> new MockHttpServletRequest("GET", "/public/catalog/cookies.css");
+            case "health" -> new MockHttpServletRequest("GET", "/actuator/health");
+            case "bearer" -> {
+                MockHttpServletRequest bearer = new MockHttpServletRequest("GET", "/api/domains/store/admin/users");
+                bearer.addHeader("Authorization", "Bearer " + token);
+                yield bearer;
+            }
+            case "cookie" -> {
+                MockHttpServletRequest cookie = new MockHttpServletRequest("GET", "/admin/users");
+                cookie.setCookies(
+                    new Cookie("_ga", "GA1.1.123456789.1700000000"),
+                    new Cookie("locale", "es"),
+                    new Cookie(AuthCookieNames.ADMIN_AUTH_TOKEN, token)
+                );
+                yield cookie;
+            }
+            default -> throw new IllegalArgumentException("Unknown scenario: " + scenario);
+        };
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public Object filter() throws Exception {
+        try {
+            filter.doFilter(request, response, CHAIN);
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
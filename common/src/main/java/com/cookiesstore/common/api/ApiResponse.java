@@ -8,19 +8,24 @@ import java.util.List;
 public record ApiResponse<T>(
     boolean success,
     T data,
+    PageInfo page,
     ApiError error,
     Instant timestamp
 ) {
 
     public static <T> ApiResponse<T> success(T data) {
-        return new ApiResponse<>(true, data, null, Instant.now());
+        return new ApiResponse<>(true, data, null, null, Instant.now());
+    }
+
+    public static <T> ApiResponse<T> success(T data, PageInfo page) {
+        return new ApiResponse<>(true, data, page, null, Instant.now());
     }
 
     public static <T> ApiResponse<T> error(String code, String message) {
-        return new ApiResponse<>(false, null, new ApiError(code, message, null), Instant.now());
+        return new ApiResponse<>(false, null, null, new ApiError(code, message, null), Instant.now());
     }
 
     public static <T> ApiResponse<T> validationError(String message, List<FieldValidationError> details) {
-        return new ApiResponse<>(false, null, new ApiError("VALIDATION_ERROR", message, details), Instant.now());
+        return new ApiResponse<>(false, null, null, new ApiError("VALIDATION_ERROR", message, details), Instant.now());
     }
 }
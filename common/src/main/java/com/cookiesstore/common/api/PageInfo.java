@@ -0,0 +1,10 @@
+package com.cookiesstore.common.api;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Keyset pagination metadata; {@code nextCursor} is opaque and absent on the last page.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record PageInfo(String nextCursor, boolean hasMore, int size) {
+}
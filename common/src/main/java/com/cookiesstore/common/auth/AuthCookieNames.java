@@ -3,6 +3,7 @@ package com.cookiesstore.common.auth;
 public final class AuthCookieNames {
 
     public static final String ADMIN_AUTH_TOKEN = "ADMIN_AUTH_TOKEN";
+    public static final String ADMIN_REFRESH_TOKEN = "ADMIN_REFRESH_TOKEN";
 
     private AuthCookieNames() {
     }
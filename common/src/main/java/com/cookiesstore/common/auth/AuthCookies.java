@@ -0,0 +1,49 @@
+package com.cookiesstore.common.auth;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import java.time.Instant;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+
+/**
+ * Writes and reads the backoffice auth cookies; all of them are HTTP-only, site-wide and {@code SameSite=Lax}.
+ */
+public final class AuthCookies {
+
+    private AuthCookies() {
+    }
+
+    public static void set(HttpServletResponse response, String name, String value, Instant expiresAt) {
+        Duration maxAge = Duration.between(Instant.now(), expiresAt);
+        response.addHeader(HttpHeaders.SET_COOKIE, build(name, value, maxAge.isNegative() ? Duration.ZERO : maxAge).toString());
+    }
+
+    public static void clear(HttpServletResponse response, String name) {
+        response.addHeader(HttpHeaders.SET_COOKIE, build(name, "", Duration.ZERO).toString());
+    }
+
+    public static String read(HttpServletRequest request, String name) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return null;
+        }
+        for (Cookie cookie : cookies) {
+            if (name.equals(cookie.getName()) && cookie.getValue() != null && !cookie.getValue().isBlank()) {
+                return cookie.getValue();
+            }
+        }
+        return null;
+    }
+
+    private static ResponseCookie build(String name, String value, Duration maxAge) {
+        return ResponseCookie.from(name, value)
+            .httpOnly(true)
+            .path("/")
+            .maxAge(maxAge)
+            .sameSite("Lax")
+            .build();
+    }
+}
@@ -0,0 +1,133 @@
+package com.cookiesstore.common.auth;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.Base64;
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+
+/**
+ * Signs and verifies the one token shape this service issues ({@code {"alg":"HSxxx"}} header and a
+ * {@code sub}/{@code iat}/{@code exp}/{@code jti} payload) without going through generic JSON claim mapping.
+ * Tokens are byte-compatible with the ones jjwt produces for the same key, so either side can read them;
+ * anything else is reported as unsupported and left to the generic parser.
+ */
+final class CompactHmacTokens {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+    private static final String SUB_PREFIX = "{\"sub\":\"";
+    private static final String IAT_PREFIX = "\",\"iat\":";
+    private static final String EXP_PREFIX = ",\"exp\":";
+    private static final String JTI_PREFIX = ",\"jti\":\"";
+
+    private final SecretKey key;
+    private final Mac prototype;
+    private final String encodedHeader;
+
+    /**
+     * @param keyId {@code kid} header value, or {@code null} for the kid-less header of the default key
+     */
+    CompactHmacTokens(SecretKey key, String keyId) {
+        this.key = key;
+        this.prototype = newMac(key);
+        String alg = "HS" + key.getAlgorithm().substring("HmacSHA".length());
+        this.encodedHeader = encode(keyId == null
+            ? "{\"alg\":\"" + alg + "\"}"
+            : "{\"alg\":\"" + alg + "\",\"kid\":\"" + keyId + "\"}");
+    }
+
+    String encodedHeader() {
+        return encodedHeader;
+    }
+
+    String sign(Long userId, String tokenId, Instant issuedAt, Instant expiresAt) {
+        String payload = SUB_PREFIX + userId + IAT_PREFIX + issuedAt.getEpochSecond() + EXP_PREFIX + expiresAt.getEpochSecond()
+            + JTI_PREFIX + tokenId + "\"}";
+        String signingInput = encodedHeader + "." + encode(payload);
+        return signingInput + "." + ENCODER.encodeToString(mac(signingInput));
+    }
+
+    Decoded verify(String token, Instant now) {
+        int headerEnd = token.indexOf('.');
+        int payloadEnd = headerEnd < 0 ? -1 : token.indexOf('.', headerEnd + 1);
+        if (payloadEnd < 0 || token.indexOf('.', payloadEnd + 1) >= 0 || !token.startsWith(encodedHeader)
+            || headerEnd != encodedHeader.length()) {
+            return Decoded.UNSUPPORTED;
+        }
+
+        try {
+            byte[] signature = DECODER.decode(token.substring(payloadEnd + 1));
+            if (!MessageDigest.isEqual(signature, mac(token.substring(0, payloadEnd)))) {
+                return Decoded.REJECTED;
+            }
+
+            String payload = new String(DECODER.decode(token.substring(headerEnd + 1, payloadEnd)), StandardCharsets.UTF_8);
+            VerifiedToken verified = parsePayload(payload);
+            if (verified == null) {
+                return Decoded.UNSUPPORTED;
+            }
+            return verified.isExpired(now) ? Decoded.REJECTED : new Decoded(true, verified);
+        } catch (IllegalArgumentException ex) {
+            return Decoded.REJECTED;
+        }
+    }
+
+    /**
+     * Also accepts the payload without {@code jti} that tokens carried before token ids were introduced.
+     */
+    private VerifiedToken parsePayload(String payload) {
+        int iatStart = payload.indexOf(IAT_PREFIX);
+        int expStart = iatStart < 0 ? -1 : payload.indexOf(EXP_PREFIX, iatStart);
+        int jtiStart = expStart < 0 ? -1 : payload.indexOf(JTI_PREFIX, expStart);
+        if (!payload.startsWith(SUB_PREFIX) || expStart < 0 || !payload.endsWith(jtiStart < 0 ? "}" : "\"}")) {
+            return null;
+        }
+
+        try {
+            long userId = Long.parseLong(payload, SUB_PREFIX.length(), iatStart, 10);
+            long issuedAt = Long.parseLong(payload, iatStart + IAT_PREFIX.length(), expStart, 10);
+            int expEnd = jtiStart < 0 ? payload.length() - 1 : jtiStart;
+            long expiresAt = Long.parseLong(payload, expStart + EXP_PREFIX.length(), expEnd, 10);
+            String tokenId = jtiStart < 0 ? null : payload.substring(jtiStart + JTI_PREFIX.length(), payload.length() - 2);
+            if (tokenId != null && tokenId.indexOf('"') >= 0) {
+                return null;
+            }
+            return new VerifiedToken(userId, tokenId, Instant.ofEpochSecond(issuedAt), Instant.ofEpochSecond(expiresAt));
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+    }
+
+    private byte[] mac(String signingInput) {
+        Mac mac;
+        try {
+            mac = (Mac) prototype.clone();
+        } catch (CloneNotSupportedException ex) {
+            mac = newMac(key);
+        }
+        return mac.doFinal(signingInput.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static Mac newMac(SecretKey key) {
+        try {
+            Mac mac = Mac.getInstance(key.getAlgorithm());
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("Unsupported JWT signing key algorithm " + key.getAlgorithm(), ex);
+        }
+    }
+
+    private static String encode(String json) {
+        return ENCODER.encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    record Decoded(boolean supported, VerifiedToken token) {
+
+        static final Decoded UNSUPPORTED = new Decoded(false, null);
+        static final Decoded REJECTED = new Decoded(true, null);
+    }
+}
@@ -0,0 +1,9 @@
+package com.cookiesstore.common.auth;
+
+import java.util.Set;
+
+/**
+ * Published when a key ring reload drops keys; tokens signed with them must stop verifying at once.
+ */
+public record JwtKeysRemovedEvent(Set<String> keyIds) {
+}
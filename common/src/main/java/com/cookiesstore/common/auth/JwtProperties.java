@@ -1,6 +1,8 @@
 package com.cookiesstore.common.auth;
 
 import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
@@ -8,7 +10,12 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 public class JwtProperties {
 
     private String secret = "replace-this-secret-in-real-environments-32-bytes-min";
-    private Duration expiration = Duration.ofHours(1);
+    private Duration expiration = Duration.ofMinutes(15);
+    // Compact HMAC signing and verification; opt-in until JwtTokenProviderBenchmark shows it pays off
+    private boolean fastPath = false;
+    private final VerifiedCache verifiedCache = new VerifiedCache();
+    private final Revocation revocation = new Revocation();
+    private final KeyRing keyRing = new KeyRing();
 
     public String getSecret() {
         return secret;
@@ -25,4 +32,167 @@ public class JwtProperties {
     public void setExpiration(Duration expiration) {
         this.expiration = expiration;
     }
+
+    public boolean isFastPath() {
+        return fastPath;
+    }
+
+    public void setFastPath(boolean fastPath) {
+        this.fastPath = fastPath;
+    }
+
+    public VerifiedCache getVerifiedCache() {
+        return verifiedCache;
+    }
+
+    public Revocation getRevocation() {
+        return revocation;
+    }
+
+    public KeyRing getKeyRing() {
+        return keyRing;
+    }
+
+    public static class VerifiedCache {
+
+        private boolean enabled = true;
+        private long maximumSize = 10_000;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public long getMaximumSize() {
+            return maximumSize;
+        }
+
+        public void setMaximumSize(long maximumSize) {
+            this.maximumSize = maximumSize;
+        }
+    }
+
+    /**
+     * Deny-list checked on every authenticated request. {@code userRetention} must cover the longest-lived
+     * token a revoked user could still present, refresh tokens included.
+     */
+    public static class Revocation {
+
+        public enum Store {
+            LOCAL,
+            REDIS
+        }
+
+        private boolean enabled = true;
+        private Store store = Store.LOCAL;
+        private String redisKeyPrefix = "token-revocation:";
+        private long expectedEntries = 100_000;
+        private double falsePositiveRate = 0.001;
+        private Duration userRetention = Duration.ofHours(24);
+        private int logSize = 10_000;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Store getStore() {
+            return store;
+        }
+
+        public void setStore(Store store) {
+            this.store = store;
+        }
+
+        public String getRedisKeyPrefix() {
+            return redisKeyPrefix;
+        }
+
+        public void setRedisKeyPrefix(String redisKeyPrefix) {
+            this.redisKeyPrefix = redisKeyPrefix;
+        }
+
+        public long getExpectedEntries() {
+            return expectedEntries;
+        }
+
+        public void setExpectedEntries(long expectedEntries) {
+            this.expectedEntries = expectedEntries;
+        }
+
+        public double getFalsePositiveRate() {
+            return falsePositiveRate;
+        }
+
+        public void setFalsePositiveRate(double falsePositiveRate) {
+            this.falsePositiveRate = falsePositiveRate;
+        }
+
+        public Duration getUserRetention() {
+            return userRetention;
+        }
+
+        public void setUserRetention(Duration userRetention) {
+            this.userRetention = userRetention;
+        }
+
+        public int getLogSize() {
+            return logSize;
+        }
+
+        public void setLogSize(int logSize) {
+            this.logSize = logSize;
+        }
+    }
+
+    /**
+     * Signing keys by id. Without any keys here or in {@code location}, {@code secret} is the only key.
+     * {@code location} points to a properties file ({@code signing-key-id=...}, {@code keys.<id>=...})
+     * that is re-read every {@code reload-interval}; it takes precedence over inline {@code keys}.
+     */
+    public static class KeyRing {
+
+        private String signingKeyId = "default";
+        private Map<String, String> keys = new LinkedHashMap<>();
+        private String location;
+        private Duration reloadInterval = Duration.ofSeconds(30);
+
+        public String getSigningKeyId() {
+            return signingKeyId;
+        }
+
+        public void setSigningKeyId(String signingKeyId) {
+            this.signingKeyId = signingKeyId;
+        }
+
+        public Map<String, String> getKeys() {
+            return keys;
+        }
+
+        public void setKeys(Map<String, String> keys) {
+            this.keys = keys;
+        }
+
+        public String getLocation() {
+            return location;
+        }
+
+        public void setLocation(String location) {
+            this.location = location;
+        }
+
+        public Duration getReloadInterval() {
+            return reloadInterval;
+        }
+
+        public void setReloadInterval(Duration reloadInterval) {
+            this.reloadInterval = reloadInterval;
+        }
+    }
 }
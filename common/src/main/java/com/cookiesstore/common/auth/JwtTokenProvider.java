@@ -1,58 +1,201 @@
 package com.cookiesstore.common.auth;
 
-import java.nio.charset.StandardCharsets;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.security.SecureRandom;
 import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
 import java.util.Date;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.JwtException;
-import io.jsonwebtoken.security.Keys;
-import javax.crypto.SecretKey;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationEventPublisherAware;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 
+/**
+ * Issues and verifies access tokens against a key ring (see {@link SigningKeys}). With
+ * {@code security.jwt.key-ring.location} set, the ring is re-read every {@code reload-interval}, so a key
+ * can be rolled over without a restart: add the new key, switch {@code signing-key-id} to it once every
+ * node has it, and drop the old key after the access token lifetime has passed.
+ */
 @Component
-public class JwtTokenProvider {
+public class JwtTokenProvider implements ApplicationEventPublisherAware {
+
+    private static final Logger log = LoggerFactory.getLogger(JwtTokenProvider.class);
+    private static final Base64.Encoder TOKEN_ID_ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final String KEY_PREFIX = "keys.";
 
     private final JwtProperties jwtProperties;
-    private final SecretKey key;
+    private final ResourceLoader resourceLoader = new DefaultResourceLoader();
+    private final SecureRandom random = new SecureRandom();
+
+    private volatile SigningKeys keys;
+    private byte[] loadedKeyFile;
+    private ApplicationEventPublisher eventPublisher;
 
     public JwtTokenProvider(JwtProperties jwtProperties) {
         this.jwtProperties = jwtProperties;
-        this.key = Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8));
+        JwtProperties.KeyRing keyRing = jwtProperties.getKeyRing();
+        if (StringUtils.hasText(keyRing.getLocation())) {
+            try {
+                this.loadedKeyFile = readKeyFile();
+                this.keys = parseKeyFile(loadedKeyFile);
+            } catch (IOException ex) {
+                throw new IllegalStateException("Could not read JWT key ring from " + keyRing.getLocation(), ex);
+            }
+        } else if (!keyRing.getKeys().isEmpty()) {
+            this.keys = SigningKeys.of(keyRing.getKeys(), keyRing.getSigningKeyId(), jwtProperties.isFastPath());
+        } else {
+            this.keys = SigningKeys.of(
+                Map.of(SigningKeys.DEFAULT_KEY_ID, jwtProperties.getSecret()),
+                SigningKeys.DEFAULT_KEY_ID,
+                jwtProperties.isFastPath()
+            );
+        }
+    }
+
+    @Override
+    public void setApplicationEventPublisher(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
     }
 
     public String generateToken(Long userId) {
+        SigningKeys ring = keys;
         Instant now = Instant.now();
         Instant expiration = now.plus(jwtProperties.getExpiration());
+        String tokenId = newTokenId();
+
+        CompactHmacTokens compactTokens = ring.signingCompactTokens();
+        if (compactTokens != null) {
+            return compactTokens.sign(userId, tokenId, now, expiration);
+        }
 
-        return Jwts.builder()
+        var builder = Jwts.builder()
             .subject(String.valueOf(userId))
             .issuedAt(Date.from(now))
             .expiration(Date.from(expiration))
-            .signWith(key)
-            .compact();
+            .id(tokenId);
+        if (ring.signingHeaderKeyId() != null) {
+            builder.header().keyId(ring.signingHeaderKeyId());
+        }
+        return builder.signWith(ring.signingKey()).compact();
     }
 
     public Long extractUserId(String token) {
-        Claims claims = parseClaims(token);
+        Claims claims = parseClaims(keys, token);
         return Long.parseLong(claims.getSubject());
     }
 
     public boolean isValid(String token) {
+        return verify(token).isPresent();
+    }
+
+    /**
+     * Verifies signature and expiration with a single parse; empty when the token is not acceptable.
+     */
+    public Optional<VerifiedToken> verify(String token) {
+        SigningKeys ring = keys;
+        CompactHmacTokens compactTokens = ring.compactTokensFor(token);
+        if (compactTokens != null) {
+            CompactHmacTokens.Decoded decoded = compactTokens.verify(token, Instant.now());
+            if (decoded.supported()) {
+                return Optional.ofNullable(decoded.token());
+            }
+        }
+
         try {
-            parseClaims(token);
-            return true;
+            Claims claims = parseClaims(ring, token);
+            return Optional.of(new VerifiedToken(
+                Long.parseLong(claims.getSubject()),
+                claims.getId(),
+                claims.getIssuedAt() == null ? null : claims.getIssuedAt().toInstant(),
+                claims.getExpiration() == null ? null : claims.getExpiration().toInstant()
+            ));
         } catch (JwtException | IllegalArgumentException ex) {
-            return false;
+            return Optional.empty();
         }
     }
 
-    private Claims parseClaims(String token) {
-        return Jwts.parser()
-            .verifyWith(key)
-            .build()
-            .parseSignedClaims(token)
-            .getPayload();
+    public String signingKeyId() {
+        return keys.signingKeyId();
+    }
+
+    /**
+     * Re-reads the key ring file when it changed. An unreadable or invalid file is logged and the current
+     * ring stays in place.
+     */
+    @Scheduled(fixedDelayString = "${security.jwt.key-ring.reload-interval:PT30S}")
+    public void reloadKeys() {
+        String location = jwtProperties.getKeyRing().getLocation();
+        if (!StringUtils.hasText(location)) {
+            return;
+        }
+
+        SigningKeys current = keys;
+        SigningKeys reloaded;
+        byte[] content;
+        try {
+            content = readKeyFile();
+            if (Arrays.equals(content, loadedKeyFile)) {
+                return;
+            }
+            reloaded = parseKeyFile(content);
+        } catch (IOException | IllegalArgumentException ex) {
+            log.error("Could not reload JWT key ring from {}; keeping keys {}", location, current.keyIds(), ex);
+            return;
+        }
+
+        keys = reloaded;
+        loadedKeyFile = content;
+        log.info("Reloaded JWT key ring {}; signing with {}", reloaded.keyIds(), reloaded.signingKeyId());
+
+        Set<String> removed = new HashSet<>(current.keyIds());
+        removed.removeAll(reloaded.keyIds());
+        if (!removed.isEmpty() && eventPublisher != null) {
+            eventPublisher.publishEvent(new JwtKeysRemovedEvent(Set.copyOf(removed)));
+        }
+    }
+
+    private byte[] readKeyFile() throws IOException {
+        return resourceLoader.getResource(jwtProperties.getKeyRing().getLocation()).getContentAsByteArray();
+    }
+
+    private SigningKeys parseKeyFile(byte[] content) throws IOException {
+        Properties properties = new Properties();
+        properties.load(new ByteArrayInputStream(content));
+
+        Map<String, String> secrets = new LinkedHashMap<>();
+        for (String name : properties.stringPropertyNames()) {
+            if (name.startsWith(KEY_PREFIX)) {
+                secrets.put(name.substring(KEY_PREFIX.length()), properties.getProperty(name).trim());
+            }
+        }
+        String signingKeyId = properties.getProperty("signing-key-id", SigningKeys.DEFAULT_KEY_ID).trim();
+        return SigningKeys.of(secrets, signingKeyId, jwtProperties.isFastPath());
+    }
+
+    private String newTokenId() {
+        byte[] tokenId = new byte[16];
+        random.nextBytes(tokenId);
+        return TOKEN_ID_ENCODER.encodeToString(tokenId);
+    }
+
+    private static Claims parseClaims(SigningKeys ring, String token) {
+        return ring.parser().parseSignedClaims(token).getPayload();
     }
 }
@@ -0,0 +1,56 @@
+package com.cookiesstore.common.auth;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory store for single-node deployments; revocations do not survive a restart.
+ */
+class LocalTokenRevocationStore implements TokenRevocationStore {
+
+    private static final Entries NO_CHANGES = new Entries(0L, List.of(), List.of());
+
+    private final Map<Long, Instant> users = new ConcurrentHashMap<>();
+    private final Map<String, Instant> tokens = new ConcurrentHashMap<>();
+    private final Duration userRetention;
+
+    LocalTokenRevocationStore(Duration userRetention) {
+        this.userRetention = userRetention;
+    }
+
+    @Override
+    public void revokeUser(Long userId, Instant cutoff) {
+        users.merge(userId, cutoff, (current, next) -> next.isAfter(current) ? next : current);
+    }
+
+    @Override
+    public void revokeToken(String tokenId, Instant expiresAt) {
+        tokens.put(tokenId, expiresAt);
+    }
+
+    @Override
+    public Instant userCutoff(Long userId) {
+        return users.get(userId);
+    }
+
+    @Override
+    public boolean isTokenRevoked(String tokenId) {
+        return tokens.containsKey(tokenId);
+    }
+
+    @Override
+    public Entries snapshot(Instant now) {
+        Instant oldestCutoff = now.minus(userRetention);
+        users.values().removeIf(cutoff -> cutoff.isBefore(oldestCutoff));
+        tokens.values().removeIf(expiresAt -> expiresAt.isBefore(now));
+        return new Entries(0L, List.copyOf(users.keySet()), List.copyOf(tokens.keySet()));
+    }
+
+    @Override
+    public Entries changesSince(long sequence) {
+        return NO_CHANGES;
+    }
+}
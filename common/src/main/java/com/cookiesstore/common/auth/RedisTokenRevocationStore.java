@@ -0,0 +1,135 @@
+package com.cookiesstore.common.auth;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+/**
+ * Shared store for clustered deployments. Revoked users and tokens are sorted sets scored by cutoff and
+ * expiry, which makes pruning a range delete. Every revocation is also appended to a bounded change log
+ * under a cluster-wide sequence, in the same script, so nodes can catch up incrementally.
+ */
+class RedisTokenRevocationStore implements TokenRevocationStore {
+
+    private static final RedisScript<Long> REVOKE = new DefaultRedisScript<>("""
+        local seq = redis.call('INCR', KEYS[1])
+        local current = redis.call('ZSCORE', KEYS[2], ARGV[1])
+        if not current or tonumber(current) < tonumber(ARGV[2]) then
+          redis.call('ZADD', KEYS[2], ARGV[2], ARGV[1])
+        end
+        redis.call('ZADD', KEYS[3], seq, seq .. '|' .. ARGV[3] .. '|' .. ARGV[1])
+        redis.call('ZREMRANGEBYRANK', KEYS[3], 0, -(tonumber(ARGV[4]) + 1))
+        return seq
+        """, Long.class);
+
+    private static final String USER = "u";
+    private static final String TOKEN = "t";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ZSetOperations<String, String> sortedSets;
+    private final String sequenceKey;
+    private final String usersKey;
+    private final String tokensKey;
+    private final String logKey;
+    private final Duration userRetention;
+    private final int logSize;
+
+    RedisTokenRevocationStore(StringRedisTemplate redisTemplate, String keyPrefix, Duration userRetention, int logSize) {
+        this.redisTemplate = redisTemplate;
+        this.sortedSets = redisTemplate.opsForZSet();
+        this.sequenceKey = keyPrefix + "seq";
+        this.usersKey = keyPrefix + "users";
+        this.tokensKey = keyPrefix + "tokens";
+        this.logKey = keyPrefix + "log";
+        this.userRetention = userRetention;
+        this.logSize = logSize;
+    }
+
+    @Override
+    public void revokeUser(Long userId, Instant cutoff) {
+        record(usersKey, String.valueOf(userId), cutoff, USER);
+    }
+
+    @Override
+    public void revokeToken(String tokenId, Instant expiresAt) {
+        record(tokensKey, tokenId, expiresAt, TOKEN);
+    }
+
+    @Override
+    public Instant userCutoff(Long userId) {
+        Double cutoff = sortedSets.score(usersKey, String.valueOf(userId));
+        return cutoff == null ? null : Instant.ofEpochMilli(cutoff.longValue());
+    }
+
+    @Override
+    public boolean isTokenRevoked(String tokenId) {
+        return sortedSets.score(tokensKey, tokenId) != null;
+    }
+
+    @Override
+    public Entries snapshot(Instant now) {
+        long sequence = readSequence();
+        sortedSets.removeRangeByScore(usersKey, 0, now.minus(userRetention).toEpochMilli());
+        sortedSets.removeRangeByScore(tokensKey, 0, now.toEpochMilli());
+
+        List<Long> users = new ArrayList<>();
+        for (String userId : members(sortedSets.range(usersKey, 0, -1))) {
+            users.add(Long.valueOf(userId));
+        }
+        return new Entries(sequence, users, List.copyOf(members(sortedSets.range(tokensKey, 0, -1))));
+    }
+
+    @Override
+    public Entries changesSince(long sequence) {
+        long current = readSequence();
+        if (current < sequence) {
+            return null;
+        }
+        if (current == sequence) {
+            return new Entries(current, List.of(), List.of());
+        }
+
+        Set<String> changes = members(sortedSets.rangeByScore(logKey, sequence + 1, current));
+        if (changes.size() != current - sequence) {
+            return null;
+        }
+
+        List<Long> users = new ArrayList<>();
+        List<String> tokens = new ArrayList<>();
+        for (String change : changes) {
+            String[] parts = change.split("\\|", 3);
+            if (USER.equals(parts[1])) {
+                users.add(Long.valueOf(parts[2]));
+            } else {
+                tokens.add(parts[2]);
+            }
+        }
+        return new Entries(current, users, tokens);
+    }
+
+    private void record(String key, String member, Instant score, String kind) {
+        redisTemplate.execute(
+            REVOKE,
+            List.of(sequenceKey, key, logKey),
+            member,
+            String.valueOf(score.toEpochMilli()),
+            kind,
+            String.valueOf(logSize)
+        );
+    }
+
+    private long readSequence() {
+        String value = redisTemplate.opsForValue().get(sequenceKey);
+        return value == null ? 0L : Long.parseLong(value);
+    }
+
+    private static Set<String> members(Set<String> members) {
+        return members == null ? Set.of() : members;
+    }
+}
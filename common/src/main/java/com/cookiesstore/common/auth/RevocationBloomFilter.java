@@ -0,0 +1,87 @@
+package com.cookiesstore.common.auth;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free Bloom filter over revoked user ids and token ids. Probes use double hashing of one 64-bit
+ * hash, so a lookup is {@code hashFunctions} bit tests with no allocation. Entries cannot be removed;
+ * the registry rebuilds the filter from the store to drop expired ones.
+ */
+final class RevocationBloomFilter {
+
+    private static final long USER_SEED = 0x9E3779B97F4A7C15L;
+    private static final long TOKEN_SEED = 0xC2B2AE3D27D4EB4FL;
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashFunctions;
+
+    RevocationBloomFilter(long expectedEntries, double falsePositiveRate) {
+        long entries = Math.max(1L, expectedEntries);
+        long bits = (long) Math.ceil(-entries * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(1L, (bits + 63) >>> 6));
+        this.words = new AtomicLongArray(words);
+        this.bitCount = (long) words << 6;
+        this.hashFunctions = Math.max(1, (int) Math.round((double) bitCount / entries * Math.log(2)));
+    }
+
+    void putUser(long userId) {
+        put(mix(userId ^ USER_SEED));
+    }
+
+    boolean mightContainUser(long userId) {
+        return mightContain(mix(userId ^ USER_SEED));
+    }
+
+    void putToken(String tokenId) {
+        put(hash(tokenId));
+    }
+
+    boolean mightContainToken(String tokenId) {
+        return mightContain(hash(tokenId));
+    }
+
+    private void put(long hash) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashFunctions; i++) {
+            long index = Integer.toUnsignedLong(h1 + i * h2) % bitCount;
+            long mask = 1L << index;
+            int word = (int) (index >>> 6);
+            long current;
+            do {
+                current = words.get(word);
+            } while ((current & mask) == 0 && !words.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    private boolean mightContain(long hash) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashFunctions; i++) {
+            long index = Integer.toUnsignedLong(h1 + i * h2) % bitCount;
+            if ((words.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long hash(String tokenId) {
+        long hash = TOKEN_SEED;
+        for (int i = 0; i < tokenId.length(); i++) {
+            hash = (hash ^ tokenId.charAt(i)) * 0x100000001B3L;
+        }
+        return mix(hash);
+    }
+
+    /**
+     * SplitMix64 finalizer; spreads sequential user ids over the whole 64-bit range.
+     */
+    private static long mix(long value) {
+        long z = value;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
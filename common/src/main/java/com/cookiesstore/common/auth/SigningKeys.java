@@ -0,0 +1,136 @@
+package com.cookiesstore.common.auth;
+
+import io.jsonwebtoken.Header;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.Locator;
+import io.jsonwebtoken.ProtectedHeader;
+import io.jsonwebtoken.security.InvalidKeyException;
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.crypto.SecretKey;
+
+/**
+ * Immutable key ring: every key verifies, one of them signs. Tokens name their key in the {@code kid}
+ * header, except those of the {@value #DEFAULT_KEY_ID} key, which keep the kid-less header tokens had
+ * before key rotation existed.
+ */
+final class SigningKeys {
+
+    static final String DEFAULT_KEY_ID = "default";
+
+    private final Map<String, SecretKey> keys;
+    private final String signingKeyId;
+    private final SecretKey signingKey;
+    private final CompactHmacTokens signingCompactTokens;
+    private final CompactHmacTokens[] compactTokens;
+    private final JwtParser parser;
+
+    private SigningKeys(Map<String, SecretKey> keys, String signingKeyId, boolean fastPath) {
+        this.keys = Map.copyOf(keys);
+        this.signingKeyId = signingKeyId;
+        this.signingKey = keys.get(signingKeyId);
+        List<CompactHmacTokens> compactTokens = new ArrayList<>();
+        CompactHmacTokens signing = null;
+        if (fastPath) {
+            for (Map.Entry<String, SecretKey> entry : keys.entrySet()) {
+                CompactHmacTokens tokens = new CompactHmacTokens(entry.getValue(), headerKeyId(entry.getKey()));
+                compactTokens.add(tokens);
+                if (entry.getKey().equals(signingKeyId)) {
+                    signing = tokens;
+                }
+            }
+        }
+        this.signingCompactTokens = signing;
+        this.compactTokens = compactTokens.toArray(CompactHmacTokens[]::new);
+        this.parser = Jwts.parser().keyLocator(new KeyIdLocator(this.keys)).build();
+    }
+
+    /**
+     * @throws IllegalArgumentException when the ring is empty, a secret is too short for HMAC-SHA256 or
+     *     the signing key is not part of the ring
+     */
+    static SigningKeys of(Map<String, String> secrets, String signingKeyId, boolean fastPath) {
+        if (secrets.isEmpty()) {
+            throw new IllegalArgumentException("JWT key ring has no keys");
+        }
+        Map<String, SecretKey> keys = new HashMap<>();
+        secrets.forEach((keyId, secret) -> {
+            if (secret == null || secret.getBytes(StandardCharsets.UTF_8).length < 32) {
+                throw new IllegalArgumentException("JWT key " + keyId + " must be at least 32 bytes");
+            }
+            keys.put(keyId, Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)));
+        });
+        if (!keys.containsKey(signingKeyId)) {
+            throw new IllegalArgumentException("JWT signing key " + signingKeyId + " is not in the key ring " + keys.keySet());
+        }
+        return new SigningKeys(keys, signingKeyId, fastPath);
+    }
+
+    String signingKeyId() {
+        return signingKeyId;
+    }
+
+    /**
+     * Key id for the {@code kid} header; {@code null} for the default key.
+     */
+    String signingHeaderKeyId() {
+        return headerKeyId(signingKeyId);
+    }
+
+    SecretKey signingKey() {
+        return signingKey;
+    }
+
+    /**
+     * Compact signer for the signing key, or {@code null} when the fast path is off.
+     */
+    CompactHmacTokens signingCompactTokens() {
+        return signingCompactTokens;
+    }
+
+    /**
+     * Compact verifier for the header segment of {@code token}, or {@code null} when the header is not one
+     * this ring produces on the fast path.
+     */
+    CompactHmacTokens compactTokensFor(String token) {
+        for (CompactHmacTokens candidate : compactTokens) {
+            String header = candidate.encodedHeader();
+            if (token.startsWith(header) && token.length() > header.length() && token.charAt(header.length()) == '.') {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    JwtParser parser() {
+        return parser;
+    }
+
+    Set<String> keyIds() {
+        return keys.keySet();
+    }
+
+    private static String headerKeyId(String keyId) {
+        return DEFAULT_KEY_ID.equals(keyId) ? null : keyId;
+    }
+
+    private record KeyIdLocator(Map<String, SecretKey> keys) implements Locator<Key> {
+
+        @Override
+        public Key locate(Header header) {
+            String keyId = header instanceof ProtectedHeader protectedHeader ? protectedHeader.getKeyId() : null;
+            SecretKey key = keys.get(keyId == null ? DEFAULT_KEY_ID : keyId);
+            if (key == null) {
+                throw new InvalidKeyException("Unknown JWT key id " + keyId);
+            }
+            return key;
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.cookiesstore.common.auth;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Deny-list of revoked users and token ids.
+ *
+ * <p>A per-node Bloom filter answers the common case, a token that was never revoked, with a few bit
+ * probes and no network hop. Only filter hits consult the store (a Redis sorted set in clustered mode),
+ * which settles false positives. Nodes pull revocations recorded elsewhere from the store's change log
+ * every {@code sync-interval}, and rebuild the filter from a full snapshot every {@code rebuild-interval}
+ * to shed expired entries.
+ */
+@Component
+public class TokenRevocationRegistry implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenRevocationRegistry.class);
+
+    private final JwtProperties.Revocation properties;
+    private final TokenRevocationStore store;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LongAdder filterHits = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    private volatile RevocationBloomFilter filter;
+    private long sequence;
+
+    public TokenRevocationRegistry(JwtProperties jwtProperties, ObjectProvider<StringRedisTemplate> redisTemplate) {
+        this.properties = jwtProperties.getRevocation();
+        this.store = properties.getStore() == JwtProperties.Revocation.Store.REDIS
+            ? new RedisTokenRevocationStore(
+                redisTemplate.getObject(),
+                properties.getRedisKeyPrefix(),
+                properties.getUserRetention(),
+                properties.getLogSize()
+            )
+            : new LocalTokenRevocationStore(properties.getUserRetention());
+        this.filter = newFilter();
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        rebuild();
+    }
+
+    /**
+     * Whether {@code token} was revoked, either on its own or because its user was revoked after it was issued.
+     * Fails closed when a filter hit cannot be confirmed.
+     */
+    public boolean isRevoked(VerifiedToken token) {
+        if (!properties.isEnabled()) {
+            return false;
+        }
+
+        RevocationBloomFilter current = filter;
+        boolean userHit = current.mightContainUser(token.userId());
+        boolean tokenHit = token.tokenId() != null && current.mightContainToken(token.tokenId());
+        if (!userHit && !tokenHit) {
+            return false;
+        }
+        return confirm(token.userId(), () -> (userHit && revokedAfter(token.userId(), token.issuedAt()))
+            || (tokenHit && store.isTokenRevoked(token.tokenId())));
+    }
+
+    /**
+     * Whether {@code userId} was revoked at or after {@code issuedAt}; used for refresh tokens, which are
+     * not JWTs but must stop working together with the access tokens of a revoked user.
+     */
+    public boolean isUserRevoked(Long userId, Instant issuedAt) {
+        if (!properties.isEnabled() || !filter.mightContainUser(userId)) {
+            return false;
+        }
+        return confirm(userId, () -> revokedAfter(userId, issuedAt));
+    }
+
+    public void revokeUser(Long userId) {
+        store.revokeUser(userId, Instant.now());
+        lock.lock();
+        try {
+            filter.putUser(userId);
+        } finally {
+            lock.unlock();
+        }
+        log.info("Revoked every token issued so far to user {}", userId);
+    }
+
+    public void revokeToken(VerifiedToken token) {
+        if (token.tokenId() == null || token.expiresAt() == null) {
+            return;
+        }
+        store.revokeToken(token.tokenId(), token.expiresAt());
+        lock.lock();
+        try {
+            filter.putToken(token.tokenId());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserTokensRevoked(UserTokensRevokedEvent event) {
+        revokeUser(event.userId());
+    }
+
+    /**
+     * Applies revocations recorded by other nodes since the last pass.
+     */
+    @Scheduled(fixedDelayString = "${security.jwt.revocation.sync-interval:PT1S}")
+    public void synchronize() {
+        lock.lock();
+        try {
+            TokenRevocationStore.Entries changes = store.changesSince(sequence);
+            if (changes == null) {
+                log.warn("Token revocation change log was trimmed past sequence {}; rebuilding the filter", sequence);
+                rebuildLocked();
+                return;
+            }
+            changes.users().forEach(filter::putUser);
+            changes.tokens().forEach(filter::putToken);
+            sequence = changes.sequence();
+        } catch (DataAccessException ex) {
+            log.warn("Could not synchronize token revocations", ex);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Scheduled(
+        fixedDelayString = "${security.jwt.revocation.rebuild-interval:PT10M}",
+        initialDelayString = "${security.jwt.revocation.rebuild-interval:PT10M}"
+    )
+    public void rebuild() {
+        lock.lock();
+        try {
+            rebuildLocked();
+        } catch (DataAccessException ex) {
+            log.warn("Could not rebuild the token revocation filter; keeping the current one", ex);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long filterHits() {
+        return filterHits.sum();
+    }
+
+    public long rejected() {
+        return rejected.sum();
+    }
+
+    private boolean confirm(Long userId, BooleanSupplier lookup) {
+        filterHits.increment();
+        boolean revoked;
+        try {
+            revoked = lookup.getAsBoolean();
+        } catch (DataAccessException ex) {
+            log.warn("Could not confirm revocation of a token of user {}; rejecting it", userId, ex);
+            revoked = true;
+        }
+        if (revoked) {
+            rejected.increment();
+        }
+        return revoked;
+    }
+
+    private boolean revokedAfter(Long userId, Instant issuedAt) {
+        Instant cutoff = store.userCutoff(userId);
+        return cutoff != null && (issuedAt == null || !issuedAt.isAfter(cutoff));
+    }
+
+    private void rebuildLocked() {
+        TokenRevocationStore.Entries entries = store.snapshot(Instant.now());
+        RevocationBloomFilter rebuilt = newFilter();
+        entries.users().forEach(rebuilt::putUser);
+        entries.tokens().forEach(rebuilt::putToken);
+        filter = rebuilt;
+        sequence = entries.sequence();
+        if (entries.users().size() + entries.tokens().size() > properties.getExpectedEntries()) {
+            log.warn("Token revocation filter holds {} entries, above expected-entries {}; false positives will rise",
+                entries.users().size() + entries.tokens().size(), properties.getExpectedEntries());
+        }
+    }
+
+    private RevocationBloomFilter newFilter() {
+        return new RevocationBloomFilter(properties.getExpectedEntries(), properties.getFalsePositiveRate());
+    }
+}
@@ -0,0 +1,36 @@
+package com.cookiesstore.common.auth;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Authoritative record of revocations. User revocations carry a cutoff: every token of that user issued
+ * at or before it is revoked. Token revocations are keyed by {@code jti} and kept until the token expires.
+ */
+interface TokenRevocationStore {
+
+    void revokeUser(Long userId, Instant cutoff);
+
+    void revokeToken(String tokenId, Instant expiresAt);
+
+    /**
+     * Cutoff of the latest revocation of {@code userId}, or {@code null} when the user is not revoked.
+     */
+    Instant userCutoff(Long userId);
+
+    boolean isTokenRevoked(String tokenId);
+
+    /**
+     * Drops entries that can no longer match a live token and lists the rest.
+     */
+    Entries snapshot(Instant now);
+
+    /**
+     * Entries recorded after {@code sequence}; {@code null} when the store no longer knows them all,
+     * in which case the caller takes a {@link #snapshot}.
+     */
+    Entries changesSince(long sequence);
+
+    record Entries(long sequence, List<Long> users, List<String> tokens) {
+    }
+}
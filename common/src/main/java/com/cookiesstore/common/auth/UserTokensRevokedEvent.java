@@ -0,0 +1,8 @@
+package com.cookiesstore.common.auth;
+
+/**
+ * Signals that every token issued to {@code userId} so far must stop working, e.g. on deactivation.
+ * Handled after the surrounding transaction commits.
+ */
+public record UserTokensRevokedEvent(Long userId) {
+}
@@ -0,0 +1,14 @@
+package com.cookiesstore.common.auth;
+
+import java.time.Instant;
+
+/**
+ * Claims of a token whose signature and expiration have already been checked.
+ * {@code tokenId} is the {@code jti} claim, absent on tokens issued before token ids were introduced.
+ */
+public record VerifiedToken(Long userId, String tokenId, Instant issuedAt, Instant expiresAt) {
+
+    public boolean isExpired(Instant now) {
+        return expiresAt != null && now.isAfter(expiresAt);
+    }
+}
@@ -0,0 +1,99 @@
+package com.cookiesstore.common.auth;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Holds verified claims keyed by the SHA-256 of the raw token until the token's {@code exp},
+ * so repeat requests with the same bearer token or auth cookie skip signature verification.
+ * Rejected tokens are never cached.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final Cache<ByteBuffer, VerifiedToken> cache;
+
+    public VerifiedTokenCache(JwtTokenProvider jwtTokenProvider, JwtProperties jwtProperties) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        JwtProperties.VerifiedCache properties = jwtProperties.getVerifiedCache();
+        this.cache = properties.isEnabled()
+            ? Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfter(new UntilTokenExpiration())
+                .build()
+            : null;
+    }
+
+    public Optional<VerifiedToken> verify(String token) {
+        if (cache == null) {
+            return jwtTokenProvider.verify(token);
+        }
+
+        ByteBuffer key = digest(token);
+        VerifiedToken cached = cache.getIfPresent(key);
+        if (cached != null && !cached.isExpired(Instant.now())) {
+            return Optional.of(cached);
+        }
+
+        Optional<VerifiedToken> verified = jwtTokenProvider.verify(token);
+        verified
+            .filter(verifiedToken -> verifiedToken.expiresAt() != null)
+            .ifPresent(verifiedToken -> cache.put(key, verifiedToken));
+        return verified;
+    }
+
+    public void invalidate(String token) {
+        if (cache != null) {
+            cache.invalidate(digest(token));
+        }
+    }
+
+    public void invalidateAll() {
+        if (cache != null) {
+            cache.invalidateAll();
+        }
+    }
+
+    @EventListener
+    public void onKeysRemoved(JwtKeysRemovedEvent event) {
+        invalidateAll();
+    }
+
+    private ByteBuffer digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return ByteBuffer.wrap(messageDigest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    private static final class UntilTokenExpiration implements Expiry<ByteBuffer, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(ByteBuffer key, VerifiedToken value, long currentTime) {
+            return Math.max(0L, Duration.between(Instant.now(), value.expiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(ByteBuffer key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(ByteBuffer key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.cookiesstore.common.authorization.cache;
+
+import com.cookiesstore.common.authorization.event.AuthorizationChangedEvent;
+import com.cookiesstore.common.authorization.event.AuthorizationReferenceDataChangedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+public class AuthorizationCacheInvalidationListener {
+
+    private final PermissionSnapshotCache snapshotCache;
+
+    public AuthorizationCacheInvalidationListener(PermissionSnapshotCache snapshotCache) {
+        this.snapshotCache = snapshotCache;
+    }
+
+    /**
+     * Evicts as soon as the change is published so the writing transaction reads its own grants.
+     */
+    @EventListener
+    public void onChange(AuthorizationChangedEvent event) {
+        evict(event);
+    }
+
+    /**
+     * Evicts again once the transaction completes, dropping snapshots that concurrent readers
+     * compiled from pre-commit state (or from state that was rolled back).
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION)
+    public void onCompletion(AuthorizationChangedEvent event) {
+        evict(event);
+    }
+
+    /**
+     * Snapshots hold bitsets over the previous permission catalog, so reference-data changes drop all of them.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void onReferenceDataChanged(AuthorizationReferenceDataChangedEvent event) {
+        snapshotCache.evictAll();
+    }
+
+    private void evict(AuthorizationChangedEvent event) {
+        if (event.isUserWide()) {
+            snapshotCache.evictUser(event.userId());
+        } else {
+            snapshotCache.evict(event.userId(), event.domainCode());
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.cookiesstore.common.authorization.cache;
+
+import com.cookiesstore.common.authorization.registry.PermissionBits;
+import com.cookiesstore.common.authorization.registry.PermissionCatalog;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable, precompiled view of what a user may do inside one domain.
+ * Built once per (userId, domainCode) with the override > ability > deny rule already applied;
+ * effective permissions are a bitset over the {@link PermissionCatalog} the snapshot was compiled against.
+ */
+public final class PermissionSnapshot {
+
+    private static final PermissionSnapshot EMPTY = new PermissionSnapshot(
+        PermissionCatalog.build(List.of(), Map.of()),
+        new long[0],
+        Set.of(),
+        false
+    );
+
+    private final PermissionCatalog catalog;
+    private final long[] bits;
+    private final Set<String> abilities;
+    private final boolean wildcard;
+    private final boolean domainAccess;
+
+    private Set<String> permissionCodes;
+
+    private PermissionSnapshot(PermissionCatalog catalog, long[] bits, Set<String> abilities, boolean domainAccess) {
+        this.catalog = catalog;
+        this.bits = bits;
+        this.abilities = abilities;
+        this.wildcard = catalog.wildcardOrdinal() >= 0 && PermissionBits.test(bits, catalog.wildcardOrdinal());
+        this.domainAccess = domainAccess;
+    }
+
+    public static PermissionSnapshot of(
+        PermissionCatalog catalog,
+        long[] bits,
+        Set<String> abilities,
+        boolean domainAccess
+    ) {
+        if (PermissionBits.isEmpty(bits) && abilities.isEmpty() && !domainAccess) {
+            return EMPTY;
+        }
+        return new PermissionSnapshot(catalog, bits.clone(), Set.copyOf(abilities), domainAccess);
+    }
+
+    public static PermissionSnapshot empty() {
+        return EMPTY;
+    }
+
+    public boolean hasPermission(String permissionCode) {
+        if (wildcard) {
+            return true;
+        }
+        int ordinal = catalog.ordinal(permissionCode);
+        return ordinal >= 0 && PermissionBits.test(bits, ordinal);
+    }
+
+    /**
+     * Evaluates every code against this snapshot; the result keeps the iteration order of {@code permissionCodes}.
+     */
+    public Map<String, Boolean> checkAll(Collection<String> permissionCodes) {
+        Map<String, Boolean> results = new LinkedHashMap<>();
+        for (String permissionCode : permissionCodes) {
+            results.put(permissionCode, hasPermission(permissionCode));
+        }
+        return Collections.unmodifiableMap(results);
+    }
+
+    public boolean hasAbility(String abilityCode) {
+        return abilities.contains(abilityCode);
+    }
+
+    public boolean hasDomainAccess() {
+        return domainAccess;
+    }
+
+    public Set<String> permissions() {
+        Set<String> codes = permissionCodes;
+        if (codes == null) {
+            Set<String> materialized = new LinkedHashSet<>();
+            for (int ordinal = 0; ordinal < catalog.size(); ordinal++) {
+                if (PermissionBits.test(bits, ordinal)) {
+                    materialized.add(catalog.code(ordinal));
+                }
+            }
+            codes = Collections.unmodifiableSet(materialized);
+            permissionCodes = codes;
+        }
+        return codes;
+    }
+
+    public Set<String> abilities() {
+        return abilities;
+    }
+
+    public PermissionCatalog catalog() {
+        return catalog;
+    }
+
+    public long[] bits() {
+        return bits.clone();
+    }
+}
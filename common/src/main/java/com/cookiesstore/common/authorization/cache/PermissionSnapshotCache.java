@@ -0,0 +1,51 @@
+package com.cookiesstore.common.authorization.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.function.BiFunction;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PermissionSnapshotCache {
+
+    private final boolean enabled;
+    private final Cache<SnapshotKey, PermissionSnapshot> snapshots;
+
+    public PermissionSnapshotCache(AuthorizationCacheProperties properties) {
+        this.enabled = properties.isEnabled();
+        this.snapshots = Caffeine.newBuilder()
+            .maximumSize(properties.getMaximumSize())
+            .expireAfterWrite(properties.getTtl())
+            .build();
+    }
+
+    public PermissionSnapshot get(
+        Long userId,
+        String domainCode,
+        BiFunction<Long, String, PermissionSnapshot> loader
+    ) {
+        if (!enabled) {
+            return loader.apply(userId, domainCode);
+        }
+        return snapshots.get(new SnapshotKey(userId, domainCode), key -> loader.apply(key.userId(), key.domainCode()));
+    }
+
+    public void evict(Long userId, String domainCode) {
+        snapshots.invalidate(new SnapshotKey(userId, domainCode));
+    }
+
+    public void evictUser(Long userId) {
+        snapshots.asMap().keySet().removeIf(key -> key.userId().equals(userId));
+    }
+
+    public void evictAll() {
+        snapshots.invalidateAll();
+    }
+
+    public long size() {
+        return snapshots.estimatedSize();
+    }
+
+    private record SnapshotKey(Long userId, String domainCode) {
+    }
+}
@@ -0,0 +1,38 @@
+package com.cookiesstore.common.authorization.cluster;
+
+import com.cookiesstore.common.authorization.cache.PermissionSnapshotCache;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(prefix = "security.authorization.cluster", name = "enabled", havingValue = "true")
+public class AuthorizationClusterConfiguration {
+
+    @Bean
+    public RedisAuthorizationInvalidationBus redisAuthorizationInvalidationBus(
+        StringRedisTemplate redisTemplate,
+        PermissionSnapshotCache snapshotCache,
+        AuthorizationClusterProperties properties
+    ) {
+        return new RedisAuthorizationInvalidationBus(redisTemplate, snapshotCache, properties);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer authorizationInvalidationListenerContainer(
+        RedisConnectionFactory connectionFactory,
+        RedisAuthorizationInvalidationBus invalidationBus,
+        AuthorizationClusterProperties properties
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(invalidationBus, new ChannelTopic(properties.getChannel()));
+        return container;
+    }
+}
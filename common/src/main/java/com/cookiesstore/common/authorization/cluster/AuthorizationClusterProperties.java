@@ -0,0 +1,45 @@
+package com.cookiesstore.common.authorization.cluster;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "security.authorization.cluster")
+public class AuthorizationClusterProperties {
+
+    private boolean enabled = false;
+    private String channel = "authorization:invalidations";
+    private String sequenceKey = "authorization:invalidations:seq";
+    private Duration gapCheckInterval = Duration.ofSeconds(5);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    public void setChannel(String channel) {
+        this.channel = channel;
+    }
+
+    public String getSequenceKey() {
+        return sequenceKey;
+    }
+
+    public void setSequenceKey(String sequenceKey) {
+        this.sequenceKey = sequenceKey;
+    }
+
+    public Duration getGapCheckInterval() {
+        return gapCheckInterval;
+    }
+
+    public void setGapCheckInterval(Duration gapCheckInterval) {
+        this.gapCheckInterval = gapCheckInterval;
+    }
+}
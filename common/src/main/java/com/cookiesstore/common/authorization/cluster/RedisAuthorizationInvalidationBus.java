@@ -0,0 +1,150 @@
+package com.cookiesstore.common.authorization.cluster;
+
+import com.cookiesstore.common.authorization.cache.PermissionSnapshotCache;
+import com.cookiesstore.common.authorization.event.AuthorizationChangedEvent;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Fans authorization changes out to every node over Redis pub/sub.
+ *
+ * <p>Each notice carries a cluster-wide sequence number and the affected (userId, domainCode). Sequence
+ * increment and publish run in one Lua script, so notices reach subscribers in sequence order; a jump in
+ * the sequence means this node missed messages and must drop every local snapshot. The sequence is the only
+ * state kept in Redis.
+ */
+public class RedisAuthorizationInvalidationBus implements MessageListener, InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(RedisAuthorizationInvalidationBus.class);
+
+    static final String USER_WIDE_SCOPE = "*";
+
+    private static final RedisScript<Long> PUBLISH_SCRIPT = new DefaultRedisScript<>(
+        "local seq = redis.call('INCR', KEYS[1]) "
+            + "redis.call('PUBLISH', ARGV[2], seq .. '|' .. ARGV[3] .. '|' .. ARGV[1]) "
+            + "return seq",
+        Long.class
+    );
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final AtomicLong lastSequence = new AtomicLong();
+    private final AtomicLong suspectedSequence = new AtomicLong();
+
+    private final StringRedisTemplate redisTemplate;
+    private final PermissionSnapshotCache snapshotCache;
+    private final AuthorizationClusterProperties properties;
+
+    public RedisAuthorizationInvalidationBus(
+        StringRedisTemplate redisTemplate,
+        PermissionSnapshotCache snapshotCache,
+        AuthorizationClusterProperties properties
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.snapshotCache = snapshotCache;
+        this.properties = properties;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        resynchronize();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void publish(AuthorizationChangedEvent event) {
+        String domainCode = event.isUserWide() ? USER_WIDE_SCOPE : event.domainCode();
+        try {
+            redisTemplate.execute(
+                PUBLISH_SCRIPT,
+                List.of(properties.getSequenceKey()),
+                event.userId() + "|" + domainCode,
+                properties.getChannel(),
+                nodeId
+            );
+        } catch (DataAccessException ex) {
+            log.error("Could not publish authorization change for user {} in {}; other nodes keep cached grants until TTL",
+                event.userId(), domainCode, ex);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 4);
+        if (parts.length != 4) {
+            log.warn("Ignoring malformed authorization invalidation notice");
+            return;
+        }
+
+        long sequence = Long.parseLong(parts[0]);
+        String origin = parts[1];
+        Long userId = Long.valueOf(parts[2]);
+        String domainCode = parts[3];
+
+        if (!nodeId.equals(origin)) {
+            if (USER_WIDE_SCOPE.equals(domainCode)) {
+                snapshotCache.evictUser(userId);
+            } else {
+                snapshotCache.evict(userId, domainCode);
+            }
+        }
+
+        long previous = lastSequence.getAndAccumulate(sequence, Math::max);
+        if (sequence > previous + 1) {
+            log.warn("Authorization invalidation gap detected ({} -> {}); dropping local snapshots", previous, sequence);
+            resynchronize();
+        }
+    }
+
+    /**
+     * Catches silently lost notices (e.g. a dropped subscription). A sequence that is ahead of what
+     * this node has seen on two consecutive checks cannot be a notice still in flight.
+     */
+    @Scheduled(fixedDelayString = "${security.authorization.cluster.gap-check-interval:PT5S}")
+    public void checkForGaps() {
+        long remote;
+        try {
+            remote = readSequence();
+        } catch (DataAccessException ex) {
+            log.warn("Could not read authorization invalidation sequence", ex);
+            return;
+        }
+
+        long seen = lastSequence.get();
+        long suspected = suspectedSequence.getAndSet(remote > seen ? remote : 0L);
+        if (suspected > 0 && seen < suspected) {
+            log.warn("Authorization invalidation notices missed (seen {}, expected {}); dropping local snapshots", seen, suspected);
+            resynchronize();
+        }
+    }
+
+    public String nodeId() {
+        return nodeId;
+    }
+
+    private void resynchronize() {
+        snapshotCache.evictAll();
+        try {
+            lastSequence.accumulateAndGet(readSequence(), Math::max);
+        } catch (DataAccessException ex) {
+            log.warn("Could not read the authorization invalidation sequence from Redis", ex);
+        }
+    }
+
+    private long readSequence() {
+        String value = redisTemplate.opsForValue().get(properties.getSequenceKey());
+        return value == null ? 0L : Long.parseLong(value);
+    }
+}
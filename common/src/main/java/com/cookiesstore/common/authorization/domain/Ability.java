@@ -1,5 +1,6 @@
 package com.cookiesstore.common.authorization.domain;
 
+import com.cookiesstore.common.persistence.IdAllocation;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
@@ -9,6 +10,7 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.PrePersist;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.time.Instant;
 import java.util.LinkedHashSet;
@@ -19,7 +21,8 @@ import java.util.Set;
 public class Ability {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "abilities_id_seq")
+    @SequenceGenerator(name = "abilities_id_seq", sequenceName = "abilities_id_seq", allocationSize = IdAllocation.SIZE)
     private Long id;
 
     @Column(nullable = false, unique = true, length = 80)
@@ -1,5 +1,6 @@
 package com.cookiesstore.common.authorization.domain;
 
+import com.cookiesstore.common.persistence.IdAllocation;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
@@ -9,6 +10,7 @@ import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 import java.time.Instant;
@@ -28,7 +30,8 @@ import java.time.Instant;
 public class UserDomainAbility {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_domain_abilities_id_seq")
+    @SequenceGenerator(name = "user_domain_abilities_id_seq", sequenceName = "user_domain_abilities_id_seq", allocationSize = IdAllocation.SIZE)
     private Long id;
 
     @Column(name = "user_id", nullable = false)
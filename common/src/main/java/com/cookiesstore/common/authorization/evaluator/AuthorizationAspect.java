@@ -4,6 +4,9 @@ import com.cookiesstore.common.authorization.annotation.RequiresAbility;
 import com.cookiesstore.common.authorization.annotation.RequiresPermission;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BooleanSupplier;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
@@ -20,6 +23,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 public class AuthorizationAspect {
 
     private final DomainAuthorizationEvaluator evaluator;
+    private final Map<Method, Integer> domainCodeIndexes = new ConcurrentHashMap<>();
 
     public AuthorizationAspect(DomainAuthorizationEvaluator evaluator) {
         this.evaluator = evaluator;
@@ -30,7 +34,9 @@ public class AuthorizationAspect {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         String domainCode = extractDomainCode(joinPoint);
 
-        if (!evaluator.hasPermission(authentication, domainCode, requiresPermission.value())) {
+        boolean granted = decide(authentication, domainCode, "permission", requiresPermission.value(),
+            () -> evaluator.hasPermission(authentication, domainCode, requiresPermission.value()));
+        if (!granted) {
             throw new AccessDeniedException("Permission denied");
         }
 
@@ -42,22 +48,52 @@ public class AuthorizationAspect {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         String domainCode = extractDomainCode(joinPoint);
 
-        if (!evaluator.hasAbility(authentication, domainCode, requiresAbility.value())) {
+        boolean granted = decide(authentication, domainCode, "ability", requiresAbility.value(),
+            () -> evaluator.hasAbility(authentication, domainCode, requiresAbility.value()));
+        if (!granted) {
             throw new AccessDeniedException("Ability denied");
         }
 
         return joinPoint.proceed();
     }
 
+    private boolean decide(
+        Authentication authentication,
+        String domainCode,
+        String kind,
+        String code,
+        BooleanSupplier evaluation
+    ) {
+        AuthorizationDecisionMemo memo = authentication == null ? null : AuthorizationDecisionMemo.bindToCurrentRequest();
+        if (memo == null) {
+            return evaluation.getAsBoolean();
+        }
+        return memo.decide(authentication.getName(), domainCode, kind, code, evaluation);
+    }
+
     private String extractDomainCode(ProceedingJoinPoint joinPoint) {
         Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
-        Object[] args = joinPoint.getArgs();
+        int index = domainCodeIndexes.computeIfAbsent(method, AuthorizationAspect::resolveDomainCodeIndex);
+        if (index >= 0 && joinPoint.getArgs()[index] instanceof String domainCode) {
+            return domainCode;
+        }
+
+        throw new AccessDeniedException("domainCode path variable is required");
+    }
+
+    /**
+     * Returns the position of the {@code domainCode} argument, or {@code -1} when the method has none.
+     */
+    static int resolveDomainCodeIndex(Method method) {
         Parameter[] parameters = method.getParameters();
 
         for (int i = 0; i < parameters.length; i++) {
             Parameter parameter = parameters[i];
-            PathVariable pathVariable = parameter.getAnnotation(PathVariable.class);
+            if (!String.class.equals(parameter.getType())) {
+                continue;
+            }
 
+            PathVariable pathVariable = parameter.getAnnotation(PathVariable.class);
             if (pathVariable != null) {
                 String name = pathVariable.name();
                 if (!StringUtils.hasText(name)) {
@@ -67,16 +103,16 @@ public class AuthorizationAspect {
                     name = parameter.getName();
                 }
 
-                if ("domainCode".equals(name) && args[i] instanceof String domainCode) {
-                    return domainCode;
+                if ("domainCode".equals(name)) {
+                    return i;
                 }
             }
 
-            if ("domainCode".equals(parameter.getName()) && args[i] instanceof String domainCode) {
-                return domainCode;
+            if ("domainCode".equals(parameter.getName())) {
+                return i;
             }
         }
 
-        throw new AccessDeniedException("domainCode path variable is required");
+        return -1;
     }
 }
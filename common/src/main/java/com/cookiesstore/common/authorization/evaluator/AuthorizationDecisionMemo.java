@@ -0,0 +1,75 @@
+package com.cookiesstore.common.authorization.evaluator;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Per-request memo of {@link AuthorizationAspect} decisions, stored as a request attribute so nested
+ * annotated calls within one request reuse the first answer. Hit/miss counts are kept for diagnostics.
+ */
+public final class AuthorizationDecisionMemo {
+
+    public static final String REQUEST_ATTRIBUTE = AuthorizationDecisionMemo.class.getName();
+
+    private final Map<Decision, Boolean> decisions = new ConcurrentHashMap<>();
+    private final AtomicInteger hits = new AtomicInteger();
+    private final AtomicInteger misses = new AtomicInteger();
+
+    /**
+     * Returns the memo bound to the current request, or {@code null} outside of a request.
+     */
+    public static AuthorizationDecisionMemo current() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        Object memo = attributes.getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        return memo instanceof AuthorizationDecisionMemo decisionMemo ? decisionMemo : null;
+    }
+
+    static AuthorizationDecisionMemo bindToCurrentRequest() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        AuthorizationDecisionMemo memo = current();
+        if (memo == null) {
+            memo = new AuthorizationDecisionMemo();
+            attributes.setAttribute(REQUEST_ATTRIBUTE, memo, RequestAttributes.SCOPE_REQUEST);
+        }
+        return memo;
+    }
+
+    boolean decide(String principal, String domainCode, String kind, String code, BooleanSupplier evaluation) {
+        Decision decision = new Decision(principal, domainCode, kind, code);
+        Boolean cached = decisions.get(decision);
+        if (cached != null) {
+            hits.incrementAndGet();
+            return cached;
+        }
+        misses.incrementAndGet();
+        boolean granted = evaluation.getAsBoolean();
+        decisions.put(decision, granted);
+        return granted;
+    }
+
+    public int hits() {
+        return hits.get();
+    }
+
+    public int misses() {
+        return misses.get();
+    }
+
+    @Override
+    public String toString() {
+        return "AuthorizationDecisionMemo[hits=" + hits.get() + ", misses=" + misses.get() + "]";
+    }
+
+    private record Decision(String principal, String domainCode, String kind, String code) {
+    }
+}
@@ -0,0 +1,61 @@
+package com.cookiesstore.common.authorization.evaluator;
+
+import com.cookiesstore.common.authorization.cache.PermissionSnapshot;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+/**
+ * SpEL/Thymeleaf entry point: {@code th:with="perms=${@authz.forDomain(domainCode)}"} resolves the current
+ * user's snapshot once, then {@code ${perms.can('users:create')}} is an in-memory bit test.
+ */
+@Component("authz")
+public class AuthorizationViewFacade {
+
+    private final DomainAuthorizationEvaluator evaluator;
+
+    public AuthorizationViewFacade(DomainAuthorizationEvaluator evaluator) {
+        this.evaluator = evaluator;
+    }
+
+    public DomainPermissions forDomain(String domainCode) {
+        return new DomainPermissions(
+            evaluator.snapshot(SecurityContextHolder.getContext().getAuthentication(), domainCode)
+        );
+    }
+
+    public static final class DomainPermissions {
+
+        private final PermissionSnapshot snapshot;
+
+        private DomainPermissions(PermissionSnapshot snapshot) {
+            this.snapshot = snapshot;
+        }
+
+        public boolean can(String permissionCode) {
+            return snapshot.hasPermission(permissionCode);
+        }
+
+        public boolean canAny(String... permissionCodes) {
+            return Arrays.stream(permissionCodes).anyMatch(snapshot::hasPermission);
+        }
+
+        public boolean canAll(String... permissionCodes) {
+            return Arrays.stream(permissionCodes).allMatch(snapshot::hasPermission);
+        }
+
+        public boolean hasAbility(String abilityCode) {
+            return snapshot.hasAbility(abilityCode);
+        }
+
+        public boolean hasDomainAccess() {
+            return snapshot.hasDomainAccess();
+        }
+
+        public Map<String, Boolean> checkAll(Collection<String> permissionCodes) {
+            return snapshot.checkAll(permissionCodes);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.cookiesstore.common.authorization.evaluator;
+
+import com.cookiesstore.common.authorization.annotation.RequiresAbility;
+import com.cookiesstore.common.authorization.annotation.RequiresPermission;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Fails startup when a {@link RequiresPermission}/{@link RequiresAbility} method has no {@code domainCode}
+ * argument, instead of denying every call to it at runtime.
+ */
+@Component
+public class AuthorizedMethodValidator implements BeanPostProcessor {
+
+    private static final Set<Class<? extends Annotation>> ANNOTATIONS = Set.of(RequiresPermission.class, RequiresAbility.class);
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        Class<?> targetClass = ClassUtils.getUserClass(bean);
+        if (!AnnotationUtils.isCandidateClass(targetClass, ANNOTATIONS)) {
+            return bean;
+        }
+
+        Map<Method, Boolean> annotated = MethodIntrospector.selectMethods(
+            targetClass,
+            (MethodIntrospector.MetadataLookup<Boolean>) method -> isAuthorized(method) ? Boolean.TRUE : null
+        );
+        for (Method method : annotated.keySet()) {
+            if (AuthorizationAspect.resolveDomainCodeIndex(method) < 0) {
+                throw new IllegalStateException(
+                    "Bean '" + beanName + "': " + method.toGenericString()
+                        + " is annotated for domain authorization but has no String domainCode parameter"
+                );
+            }
+        }
+        return bean;
+    }
+
+    private boolean isAuthorized(Method method) {
+        return AnnotatedElementUtils.hasAnnotation(method, RequiresPermission.class)
+            || AnnotatedElementUtils.hasAnnotation(method, RequiresAbility.class);
+    }
+}
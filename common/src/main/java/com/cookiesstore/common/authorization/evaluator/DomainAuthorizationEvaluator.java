@@ -1,6 +1,9 @@
 package com.cookiesstore.common.authorization.evaluator;
 
+import com.cookiesstore.common.authorization.cache.PermissionSnapshot;
 import com.cookiesstore.common.authorization.service.DomainAuthorizationService;
+import java.util.Collection;
+import java.util.Map;
 import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -31,6 +34,21 @@ public class DomainAuthorizationEvaluator {
         return authorizationService.hasAbility(userId, domainCode, abilityCode);
     }
 
+    public Map<String, Boolean> checkAll(Authentication authentication, String domainCode, Collection<String> permissionCodes) {
+        return snapshot(authentication, domainCode).checkAll(permissionCodes);
+    }
+
+    /**
+     * Resolves the caller's snapshot once; anonymous or unidentifiable callers get the empty snapshot.
+     */
+    public PermissionSnapshot snapshot(Authentication authentication, String domainCode) {
+        Long userId = extractUserId(authentication);
+        if (userId == null) {
+            return PermissionSnapshot.empty();
+        }
+        return authorizationService.snapshot(userId, domainCode);
+    }
+
     private Long extractUserId(Authentication authentication) {
         if (authentication == null || !authentication.isAuthenticated() || authentication instanceof AnonymousAuthenticationToken) {
             return null;
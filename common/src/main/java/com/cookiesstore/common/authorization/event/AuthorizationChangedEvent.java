@@ -0,0 +1,20 @@
+package com.cookiesstore.common.authorization.event;
+
+/**
+ * Signals that grants or overrides of a user changed.
+ * A {@code null} domainCode means the change spans every domain of the user.
+ */
+public record AuthorizationChangedEvent(Long userId, String domainCode) {
+
+    public static AuthorizationChangedEvent forDomain(Long userId, String domainCode) {
+        return new AuthorizationChangedEvent(userId, domainCode);
+    }
+
+    public static AuthorizationChangedEvent forUser(Long userId) {
+        return new AuthorizationChangedEvent(userId, null);
+    }
+
+    public boolean isUserWide() {
+        return domainCode == null;
+    }
+}
@@ -0,0 +1,7 @@
+package com.cookiesstore.common.authorization.event;
+
+/**
+ * Signals that domains, abilities, permissions or the ability-permission mapping changed.
+ */
+public record AuthorizationReferenceDataChangedEvent(String source) {
+}
@@ -0,0 +1,43 @@
+package com.cookiesstore.common.authorization.registry;
+
+/**
+ * Operations on permission bitsets indexed by {@link PermissionCatalog} ordinals.
+ */
+public final class PermissionBits {
+
+    private PermissionBits() {
+    }
+
+    public static long[] allocate(int size) {
+        return new long[(size + 63) >>> 6];
+    }
+
+    public static boolean test(long[] bits, int ordinal) {
+        int word = ordinal >>> 6;
+        return word < bits.length && (bits[word] & (1L << ordinal)) != 0;
+    }
+
+    public static void set(long[] bits, int ordinal) {
+        bits[ordinal >>> 6] |= 1L << ordinal;
+    }
+
+    public static void clear(long[] bits, int ordinal) {
+        bits[ordinal >>> 6] &= ~(1L << ordinal);
+    }
+
+    public static void or(long[] target, long[] source) {
+        int words = Math.min(target.length, source.length);
+        for (int i = 0; i < words; i++) {
+            target[i] |= source[i];
+        }
+    }
+
+    public static boolean isEmpty(long[] bits) {
+        for (long word : bits) {
+            if (word != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
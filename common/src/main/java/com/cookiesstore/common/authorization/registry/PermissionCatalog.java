@@ -0,0 +1,112 @@
+package com.cookiesstore.common.authorization.registry;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable interning of the permission catalog: every permission gets a dense ordinal (its rank by id,
+ * so ordinals agree across nodes sharing a database) and every ability a precomputed bitset.
+ */
+public final class PermissionCatalog {
+
+    public static final String WILDCARD = "*";
+
+    private final String[] codes;
+    private final Map<String, Integer> ordinalsByCode;
+    private final Map<Long, Integer> ordinalsById;
+    private final Map<Long, long[]> abilityMasks;
+    private final int wildcardOrdinal;
+
+    private PermissionCatalog(
+        String[] codes,
+        Map<String, Integer> ordinalsByCode,
+        Map<Long, Integer> ordinalsById,
+        Map<Long, long[]> abilityMasks
+    ) {
+        this.codes = codes;
+        this.ordinalsByCode = ordinalsByCode;
+        this.ordinalsById = ordinalsById;
+        this.abilityMasks = abilityMasks;
+        this.wildcardOrdinal = ordinalsByCode.getOrDefault(WILDCARD, -1);
+    }
+
+    public static PermissionCatalog build(
+        List<PermissionRef> permissions,
+        Map<Long, ? extends Collection<Long>> abilityPermissionIds
+    ) {
+        List<PermissionRef> ordered = permissions.stream()
+            .sorted(Comparator.comparing(PermissionRef::id))
+            .toList();
+
+        String[] codes = new String[ordered.size()];
+        Map<String, Integer> ordinalsByCode = new HashMap<>();
+        Map<Long, Integer> ordinalsById = new HashMap<>();
+        for (int ordinal = 0; ordinal < ordered.size(); ordinal++) {
+            PermissionRef permission = ordered.get(ordinal);
+            codes[ordinal] = permission.code();
+            ordinalsByCode.put(permission.code(), ordinal);
+            ordinalsById.put(permission.id(), ordinal);
+        }
+
+        Map<Long, long[]> abilityMasks = new HashMap<>();
+        abilityPermissionIds.forEach((abilityId, permissionIds) -> {
+            long[] mask = PermissionBits.allocate(codes.length);
+            for (Long permissionId : permissionIds) {
+                Integer ordinal = ordinalsById.get(permissionId);
+                if (ordinal != null) {
+                    PermissionBits.set(mask, ordinal);
+                }
+            }
+            abilityMasks.put(abilityId, mask);
+        });
+
+        return new PermissionCatalog(codes, Map.copyOf(ordinalsByCode), Map.copyOf(ordinalsById), Map.copyOf(abilityMasks));
+    }
+
+    public int size() {
+        return codes.length;
+    }
+
+    public long[] newBits() {
+        return PermissionBits.allocate(codes.length);
+    }
+
+    public int ordinal(String permissionCode) {
+        Integer ordinal = ordinalsByCode.get(permissionCode);
+        return ordinal == null ? -1 : ordinal;
+    }
+
+    public int ordinal(Long permissionId) {
+        Integer ordinal = ordinalsById.get(permissionId);
+        return ordinal == null ? -1 : ordinal;
+    }
+
+    public String code(int ordinal) {
+        return codes[ordinal];
+    }
+
+    public int wildcardOrdinal() {
+        return wildcardOrdinal;
+    }
+
+    /**
+     * Returns the shared, read-only mask of an ability, or {@code null} when the ability is not interned.
+     */
+    public long[] abilityMask(Long abilityId) {
+        return abilityMasks.get(abilityId);
+    }
+
+    public boolean knowsAbility(Long abilityId) {
+        return abilityMasks.containsKey(abilityId);
+    }
+
+    public boolean knowsPermission(Long permissionId) {
+        return ordinalsById.containsKey(permissionId);
+    }
+
+    public record PermissionRef(Long id, String code) {
+    }
+}
@@ -0,0 +1,83 @@
+package com.cookiesstore.common.authorization.registry;
+
+import com.cookiesstore.common.authorization.domain.Ability;
+import com.cookiesstore.common.authorization.domain.Permission;
+import com.cookiesstore.common.authorization.event.AuthorizationReferenceDataChangedEvent;
+import com.cookiesstore.common.authorization.registry.PermissionCatalog.PermissionRef;
+import com.cookiesstore.common.authorization.repository.AbilityRepository;
+import com.cookiesstore.common.authorization.repository.PermissionRepository;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+public class PermissionRegistry {
+
+    private final PermissionRepository permissionRepository;
+    private final AbilityRepository abilityRepository;
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    private volatile PermissionCatalog catalog;
+
+    public PermissionRegistry(PermissionRepository permissionRepository, AbilityRepository abilityRepository) {
+        this.permissionRepository = permissionRepository;
+        this.abilityRepository = abilityRepository;
+    }
+
+    public PermissionCatalog catalog() {
+        PermissionCatalog current = catalog;
+        return current != null ? current : refresh();
+    }
+
+    /**
+     * Returns a catalog that interns every given ability and permission, reloading once when one of them
+     * was created after the current catalog was built.
+     */
+    public PermissionCatalog catalogCovering(List<Long> abilityIds, List<Long> permissionIds) {
+        PermissionCatalog current = catalog();
+        for (Long abilityId : abilityIds) {
+            if (!current.knowsAbility(abilityId)) {
+                return refresh();
+            }
+        }
+        for (Long permissionId : permissionIds) {
+            if (!current.knowsPermission(permissionId)) {
+                return refresh();
+            }
+        }
+        return current;
+    }
+
+    public PermissionCatalog refresh() {
+        refreshLock.lock();
+        try {
+            List<PermissionRef> permissions = permissionRepository.findAll()
+                .stream()
+                .map(permission -> new PermissionRef(permission.getId(), permission.getCode()))
+                .toList();
+
+            Map<Long, List<Long>> abilityPermissionIds = new HashMap<>();
+            for (Ability ability : abilityRepository.findAllWithPermissions()) {
+                abilityPermissionIds.put(
+                    ability.getId(),
+                    ability.getPermissions().stream().map(Permission::getId).toList()
+                );
+            }
+
+            PermissionCatalog refreshed = PermissionCatalog.build(permissions, abilityPermissionIds);
+            catalog = refreshed;
+            return refreshed;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onReferenceDataChanged(AuthorizationReferenceDataChangedEvent event) {
+        catalog = null;
+    }
+}
@@ -0,0 +1,35 @@
+package com.cookiesstore.common.authorization.registry;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable snapshot of the authorization reference data: domains, abilities (roles) and permissions,
+ * indexed by code. Roles are ordered by name and their permissions by code, ready for display.
+ * {@code version} grows with every reload, so derived views can tell when they must be rebuilt.
+ */
+public record ReferenceData(
+    long version,
+    Map<String, Long> domainIds,
+    Map<String, Long> abilityIds,
+    Map<String, Long> permissionIds,
+    List<RoleDefinition> roles
+) {
+
+    public ReferenceData {
+        domainIds = Map.copyOf(domainIds);
+        abilityIds = Map.copyOf(abilityIds);
+        permissionIds = Map.copyOf(permissionIds);
+        roles = List.copyOf(roles);
+    }
+
+    public record RoleDefinition(Long id, String code, String name, List<PermissionDefinition> permissions) {
+
+        public RoleDefinition {
+            permissions = List.copyOf(permissions);
+        }
+    }
+
+    public record PermissionDefinition(String code, String resource, String action) {
+    }
+}
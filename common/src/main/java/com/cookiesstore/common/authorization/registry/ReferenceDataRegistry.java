@@ -0,0 +1,224 @@
+package com.cookiesstore.common.authorization.registry;
+
+import com.cookiesstore.common.authorization.domain.Ability;
+import com.cookiesstore.common.authorization.domain.Domain;
+import com.cookiesstore.common.authorization.domain.Permission;
+import com.cookiesstore.common.authorization.event.AuthorizationReferenceDataChangedEvent;
+import com.cookiesstore.common.authorization.registry.ReferenceData.PermissionDefinition;
+import com.cookiesstore.common.authorization.registry.ReferenceData.RoleDefinition;
+import com.cookiesstore.common.authorization.repository.AbilityRepository;
+import com.cookiesstore.common.authorization.repository.DomainRepository;
+import com.cookiesstore.common.authorization.repository.PermissionRepository;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Serves code to id lookups and the role list from memory. Loaded once the application is ready (after the
+ * seeders ran), dropped on {@link AuthorizationReferenceDataChangedEvent}, and reloaded once on a lookup miss
+ * so rows created outside the seeders are still found. A code that is still unknown after that reload is
+ * remembered for {@link #MISS_TTL}, so repeated lookups of it do not reload everything again.
+ * A reload that started before an invalidation is returned to its caller but never published.
+ */
+@Component
+public class ReferenceDataRegistry {
+
+    static final Duration MISS_TTL = Duration.ofSeconds(5);
+    static final int MAX_REMEMBERED_MISSES = 1024;
+
+    private final DomainRepository domainRepository;
+    private final AbilityRepository abilityRepository;
+    private final PermissionRepository permissionRepository;
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private final ReentrantLock publishLock = new ReentrantLock();
+    private final AtomicLong versions = new AtomicLong();
+    private final Map<String, Long> missDeadlines = new ConcurrentHashMap<>();
+
+    private volatile ReferenceData data;
+    private long generation; // guarded by publishLock, bumped on every invalidation
+
+    public ReferenceDataRegistry(
+        DomainRepository domainRepository,
+        AbilityRepository abilityRepository,
+        PermissionRepository permissionRepository
+    ) {
+        this.domainRepository = domainRepository;
+        this.abilityRepository = abilityRepository;
+        this.permissionRepository = permissionRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void preload() {
+        refresh();
+    }
+
+    public ReferenceData current() {
+        ReferenceData current = data;
+        return current != null ? current : reloadUnlessNewer(null);
+    }
+
+    public Optional<Long> domainId(String domainCode) {
+        return lookup("domain", domainCode, ReferenceData::domainIds);
+    }
+
+    public Optional<Long> abilityId(String abilityCode) {
+        return lookup("ability", abilityCode, ReferenceData::abilityIds);
+    }
+
+    public Optional<Long> permissionId(String permissionCode) {
+        return lookup("permission", permissionCode, ReferenceData::permissionIds);
+    }
+
+    public List<RoleDefinition> roles() {
+        return current().roles();
+    }
+
+    public ReferenceData refresh() {
+        refreshLock.lock();
+        try {
+            return load();
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onReferenceDataChanged(AuthorizationReferenceDataChangedEvent event) {
+        publishLock.lock();
+        try {
+            generation++;
+            data = null;
+            missDeadlines.clear();
+        } finally {
+            publishLock.unlock();
+        }
+    }
+
+    private Optional<Long> lookup(String kind, String code, Function<ReferenceData, Map<String, Long>> index) {
+        if (code == null) {
+            return Optional.empty();
+        }
+        ReferenceData seen = current();
+        Long id = index.apply(seen).get(code);
+        if (id != null) {
+            return Optional.of(id);
+        }
+
+        String missKey = kind + ':' + code;
+        Long deadline = missDeadlines.get(missKey);
+        if (deadline != null && System.nanoTime() - deadline < 0) {
+            return Optional.empty();
+        }
+
+        long startedAt = generation();
+        id = index.apply(reloadUnlessNewer(seen)).get(code);
+        if (id == null) {
+            rememberMiss(missKey, startedAt);
+        }
+        return Optional.ofNullable(id);
+    }
+
+    /**
+     * Records a miss only if no invalidation happened since {@code startedAt}; otherwise the code may have been
+     * created just before that invalidation and must be looked up again.
+     */
+    private void rememberMiss(String missKey, long startedAt) {
+        publishLock.lock();
+        try {
+            if (generation != startedAt) {
+                return;
+            }
+            if (missDeadlines.size() >= MAX_REMEMBERED_MISSES) {
+                missDeadlines.clear();
+            }
+            missDeadlines.put(missKey, System.nanoTime() + MISS_TTL.toNanos());
+        } finally {
+            publishLock.unlock();
+        }
+    }
+
+    private long generation() {
+        publishLock.lock();
+        try {
+            return generation;
+        } finally {
+            publishLock.unlock();
+        }
+    }
+
+    /**
+     * Reloads because {@code seen} was missing or lacked a code, unless another thread published newer data
+     * while this one waited for the lock; concurrent misses then share a single reload.
+     */
+    private ReferenceData reloadUnlessNewer(ReferenceData seen) {
+        refreshLock.lock();
+        try {
+            ReferenceData current = data;
+            if (current != null && current != seen) {
+                return current;
+            }
+            return load();
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private ReferenceData load() {
+        long startedAt = generation();
+
+        Map<String, Long> domainIds = new HashMap<>();
+        for (Domain domain : domainRepository.findAll()) {
+            domainIds.put(domain.getCode(), domain.getId());
+        }
+
+        Map<String, Long> permissionIds = new HashMap<>();
+        for (Permission permission : permissionRepository.findAll()) {
+            permissionIds.put(permission.getCode(), permission.getId());
+        }
+
+        Map<String, Long> abilityIds = new HashMap<>();
+        List<Ability> abilities = abilityRepository.findAllWithPermissions();
+        for (Ability ability : abilities) {
+            abilityIds.put(ability.getCode(), ability.getId());
+        }
+        List<RoleDefinition> roles = abilities.stream()
+            .sorted(Comparator.comparing(Ability::getName, String.CASE_INSENSITIVE_ORDER))
+            .map(ability -> new RoleDefinition(
+                ability.getId(),
+                ability.getCode(),
+                ability.getName(),
+                ability.getPermissions().stream()
+                    .sorted(Comparator.comparing(Permission::getCode))
+                    .map(permission -> new PermissionDefinition(
+                        permission.getCode(),
+                        permission.getResource(),
+                        permission.getAction()
+                    ))
+                    .toList()
+            ))
+            .toList();
+
+        ReferenceData refreshed = new ReferenceData(versions.incrementAndGet(), domainIds, abilityIds, permissionIds, roles);
+        publishLock.lock();
+        try {
+            if (generation == startedAt) {
+                data = refreshed;
+            }
+        } finally {
+            publishLock.unlock();
+        }
+        return refreshed;
+    }
+}
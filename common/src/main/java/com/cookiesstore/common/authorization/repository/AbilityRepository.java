@@ -1,10 +1,15 @@
 package com.cookiesstore.common.authorization.repository;
 
 import com.cookiesstore.common.authorization.domain.Ability;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 public interface AbilityRepository extends JpaRepository<Ability, Long> {
 
     Optional<Ability> findByCode(String code);
+
+    @Query("select distinct a from Ability a left join fetch a.permissions")
+    List<Ability> findAllWithPermissions();
 }
@@ -0,0 +1,19 @@
+package com.cookiesstore.common.authorization.repository;
+
+/**
+ * One row of {@link UserDomainAbilityRepository#findEffectiveAuthorization(Long, String)}.
+ * {@code ABILITY} rows carry a granted ability, {@code PERMISSION} rows an effective permission
+ * (overrides already applied, may repeat) and {@code DENIED} rows a deny override.
+ */
+public interface EffectiveAuthorizationRow {
+
+    String ABILITY = "ABILITY";
+    String PERMISSION = "PERMISSION";
+    String DENIED = "DENIED";
+
+    String getKind();
+
+    Long getId();
+
+    String getCode();
+}
@@ -0,0 +1,11 @@
+package com.cookiesstore.common.authorization.repository;
+
+/**
+ * Lightweight (userId, abilityCode) pair for listing grants without loading grant entities.
+ */
+public interface UserAbilityCodeRow {
+
+    Long getUserId();
+
+    String getAbilityCode();
+}
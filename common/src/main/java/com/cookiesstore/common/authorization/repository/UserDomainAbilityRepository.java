@@ -1,19 +1,105 @@
 package com.cookiesstore.common.authorization.repository;
 
 import com.cookiesstore.common.authorization.domain.UserDomainAbility;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface UserDomainAbilityRepository extends JpaRepository<UserDomainAbility, Long> {
 
     Optional<UserDomainAbility> findByUserIdAndDomainCodeAndAbilityCode(Long userId, String domainCode, String abilityCode);
 
+    Optional<UserDomainAbility> findByUserIdAndDomainIdAndAbilityId(Long userId, Long domainId, Long abilityId);
+
     List<UserDomainAbility> findByUserIdAndDomainCodeAndGrantedTrue(Long userId, String domainCode);
 
     List<UserDomainAbility> findByUserIdAndGrantedTrue(Long userId);
 
+    List<UserDomainAbility> findByUserIdAndDomainIdAndGrantedTrue(Long userId, Long domainId);
+
     List<UserDomainAbility> findByDomainCodeAndGrantedTrue(String domainCode);
 
+    @Query("""
+        select uda.userId as userId, a.code as abilityCode
+        from UserDomainAbility uda
+        join uda.ability a
+        join uda.domain d
+        where d.code = :domainCode and uda.granted = true and uda.userId in :userIds
+        """)
+    List<UserAbilityCodeRow> findGrantedAbilityCodesByDomainCodeAndUserIds(
+        @Param("domainCode") String domainCode,
+        @Param("userIds") Collection<Long> userIds
+    );
+
+    @Query("""
+        select uda from UserDomainAbility uda
+        join fetch uda.domain
+        where uda.userId = :userId and uda.granted = true
+        """)
+    List<UserDomainAbility> findActiveGrantsWithDomain(@Param("userId") Long userId);
+
+    /**
+     * Revokes every active grant of the user, in every domain; {@code granted_by} keeps the original grantor.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        update UserDomainAbility uda
+        set uda.granted = false
+        where uda.userId = :userId and uda.granted = true
+        """)
+    int revokeAllGrants(@Param("userId") Long userId);
+
+    /**
+     * Revokes every active grant of the user in one domain except {@code keepAbilityId}, recording the actor.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        update UserDomainAbility uda
+        set uda.granted = false, uda.grantedBy = :actorUserId
+        where uda.userId = :userId and uda.granted = true
+          and uda.domain.id = :domainId and uda.ability.id <> :keepAbilityId
+        """)
+    int revokeOtherGrantsInDomain(
+        @Param("userId") Long userId,
+        @Param("domainId") Long domainId,
+        @Param("keepAbilityId") Long keepAbilityId,
+        @Param("actorUserId") Long actorUserId
+    );
+
     long countByUserIdAndDomainCodeAndAbilityCodeAndGrantedTrue(Long userId, String domainCode, String abilityCode);
+
+    /**
+     * Resolves grants, ability permissions and overrides of one user in one domain in a single statement.
+     */
+    @Query(value = """
+        select 'ABILITY' as kind, a.id as id, a.code as code
+        from user_domain_abilities uda
+        join domains d on d.id = uda.domain_id
+        join abilities a on a.id = uda.ability_id
+        where uda.user_id = :userId and d.code = :domainCode and uda.granted = true
+        union all
+        select 'PERMISSION' as kind, ap.permission_id as id, null as code
+        from user_domain_abilities uda
+        join domains d on d.id = uda.domain_id
+        join ability_permissions ap on ap.ability_id = uda.ability_id
+        where uda.user_id = :userId and d.code = :domainCode and uda.granted = true
+          and not exists (
+            select 1 from user_domain_permission_overrides o
+            where o.user_id = uda.user_id and o.domain_id = uda.domain_id
+              and o.permission_id = ap.permission_id and o.granted = false
+          )
+        union all
+        select case when o.granted then 'PERMISSION' else 'DENIED' end as kind, o.permission_id as id, null as code
+        from user_domain_permission_overrides o
+        join domains d on d.id = o.domain_id
+        where o.user_id = :userId and d.code = :domainCode
+        """, nativeQuery = true)
+    List<EffectiveAuthorizationRow> findEffectiveAuthorization(
+        @Param("userId") Long userId,
+        @Param("domainCode") String domainCode
+    );
 }
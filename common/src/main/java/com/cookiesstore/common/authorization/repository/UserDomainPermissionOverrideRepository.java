@@ -13,5 +13,7 @@ public interface UserDomainPermissionOverrideRepository extends JpaRepository<Us
         String permissionCode
     );
 
+    Optional<UserDomainPermissionOverride> findByUserIdAndDomainIdAndPermissionId(Long userId, Long domainId, Long permissionId);
+
     List<UserDomainPermissionOverride> findByUserIdAndDomainCode(Long userId, String domainCode);
 }
@@ -3,6 +3,7 @@ package com.cookiesstore.common.authorization.seeder;
 import com.cookiesstore.common.authorization.domain.Ability;
 import com.cookiesstore.common.authorization.domain.Domain;
 import com.cookiesstore.common.authorization.domain.Permission;
+import com.cookiesstore.common.authorization.event.AuthorizationReferenceDataChangedEvent;
 import com.cookiesstore.common.authorization.repository.AbilityRepository;
 import com.cookiesstore.common.authorization.repository.DomainRepository;
 import com.cookiesstore.common.authorization.repository.PermissionRepository;
@@ -12,6 +13,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,15 +24,18 @@ public class AuthorizationDataSeeder implements CommandLineRunner {
     private final DomainRepository domainRepository;
     private final AbilityRepository abilityRepository;
     private final PermissionRepository permissionRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public AuthorizationDataSeeder(
         DomainRepository domainRepository,
         AbilityRepository abilityRepository,
-        PermissionRepository permissionRepository
+        PermissionRepository permissionRepository,
+        ApplicationEventPublisher eventPublisher
     ) {
         this.domainRepository = domainRepository;
         this.abilityRepository = abilityRepository;
         this.permissionRepository = permissionRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -39,6 +44,7 @@ public class AuthorizationDataSeeder implements CommandLineRunner {
         seedDomains();
         seedPermissions();
         seedAbilitiesAndMappings();
+        eventPublisher.publishEvent(new AuthorizationReferenceDataChangedEvent("AuthorizationDataSeeder"));
     }
 
     private void seedDomains() {
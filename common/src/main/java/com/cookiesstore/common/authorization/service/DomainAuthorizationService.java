@@ -1,11 +1,17 @@
 package com.cookiesstore.common.authorization.service;
 
-import com.cookiesstore.common.authorization.domain.Permission;
-import com.cookiesstore.common.authorization.domain.UserDomainAbility;
-import com.cookiesstore.common.authorization.domain.UserDomainPermissionOverride;
+import com.cookiesstore.common.authorization.cache.PermissionSnapshot;
+import com.cookiesstore.common.authorization.cache.PermissionSnapshotCache;
+import com.cookiesstore.common.authorization.registry.PermissionBits;
+import com.cookiesstore.common.authorization.registry.PermissionCatalog;
+import com.cookiesstore.common.authorization.registry.PermissionRegistry;
+import com.cookiesstore.common.authorization.repository.EffectiveAuthorizationRow;
 import com.cookiesstore.common.authorization.repository.UserDomainAbilityRepository;
-import com.cookiesstore.common.authorization.repository.UserDomainPermissionOverrideRepository;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import org.springframework.stereotype.Service;
 
@@ -13,56 +19,65 @@ import org.springframework.stereotype.Service;
 public class DomainAuthorizationService {
 
     private final UserDomainAbilityRepository userDomainAbilityRepository;
-    private final UserDomainPermissionOverrideRepository overrideRepository;
+    private final PermissionSnapshotCache snapshotCache;
+    private final PermissionRegistry permissionRegistry;
 
     public DomainAuthorizationService(
         UserDomainAbilityRepository userDomainAbilityRepository,
-        UserDomainPermissionOverrideRepository overrideRepository
+        PermissionSnapshotCache snapshotCache,
+        PermissionRegistry permissionRegistry
     ) {
         this.userDomainAbilityRepository = userDomainAbilityRepository;
-        this.overrideRepository = overrideRepository;
+        this.snapshotCache = snapshotCache;
+        this.permissionRegistry = permissionRegistry;
     }
 
     public boolean hasPermission(Long userId, String domainCode, String permissionCode) {
-        Set<String> permissions = getPermissions(userId, domainCode);
-        return permissions.contains("*") || permissions.contains(permissionCode);
+        return snapshot(userId, domainCode).hasPermission(permissionCode);
     }
 
     public boolean hasAbility(Long userId, String domainCode, String abilityCode) {
-        return userDomainAbilityRepository.findByUserIdAndDomainCodeAndAbilityCode(userId, domainCode, abilityCode)
-            .map(UserDomainAbility::isGranted)
-            .orElse(false);
+        return snapshot(userId, domainCode).hasAbility(abilityCode);
     }
 
     public boolean hasDomainAccess(Long userId, String domainCode) {
-        boolean hasGrantedAbility = !userDomainAbilityRepository
-            .findByUserIdAndDomainCodeAndGrantedTrue(userId, domainCode)
-            .isEmpty();
-        if (hasGrantedAbility) {
-            return true;
-        }
-
-        return !overrideRepository.findByUserIdAndDomainCode(userId, domainCode).isEmpty();
+        return snapshot(userId, domainCode).hasDomainAccess();
     }
 
     public Set<String> getPermissions(Long userId, String domainCode) {
-        Set<String> resolved = new LinkedHashSet<>();
+        return snapshot(userId, domainCode).permissions();
+    }
+
+    public Map<String, Boolean> checkAll(Long userId, String domainCode, Collection<String> permissionCodes) {
+        return snapshot(userId, domainCode).checkAll(permissionCodes);
+    }
 
-        for (UserDomainAbility grant : userDomainAbilityRepository.findByUserIdAndDomainCodeAndGrantedTrue(userId, domainCode)) {
-            for (Permission permission : grant.getAbility().getPermissions()) {
-                resolved.add(permission.getCode());
+    public PermissionSnapshot snapshot(Long userId, String domainCode) {
+        return snapshotCache.get(userId, domainCode, this::compileSnapshot);
+    }
+
+    /**
+     * Compiles a snapshot straight from the database, bypassing the cache.
+     */
+    public PermissionSnapshot compileSnapshot(Long userId, String domainCode) {
+        List<EffectiveAuthorizationRow> rows = userDomainAbilityRepository.findEffectiveAuthorization(userId, domainCode);
+
+        List<Long> permissionIds = new ArrayList<>();
+        Set<String> abilities = new LinkedHashSet<>();
+        for (EffectiveAuthorizationRow row : rows) {
+            if (EffectiveAuthorizationRow.ABILITY.equals(row.getKind())) {
+                abilities.add(row.getCode());
+            } else if (EffectiveAuthorizationRow.PERMISSION.equals(row.getKind())) {
+                permissionIds.add(row.getId());
             }
         }
 
-        for (UserDomainPermissionOverride override : overrideRepository.findByUserIdAndDomainCode(userId, domainCode)) {
-            String code = override.getPermission().getCode();
-            if (override.isGranted()) {
-                resolved.add(code);
-            } else {
-                resolved.remove(code);
-            }
+        PermissionCatalog catalog = permissionRegistry.catalogCovering(List.of(), permissionIds);
+        long[] bits = catalog.newBits();
+        for (Long permissionId : permissionIds) {
+            PermissionBits.set(bits, catalog.ordinal(permissionId));
         }
 
-        return resolved;
+        return PermissionSnapshot.of(catalog, bits, abilities, !rows.isEmpty());
     }
 }
@@ -1,12 +1,26 @@
 package com.cookiesstore.common.config;
 
 import com.cookiesstore.common.auth.JwtProperties;
+import com.cookiesstore.common.authorization.cache.AuthorizationCacheProperties;
+import com.cookiesstore.common.authorization.cluster.AuthorizationClusterProperties;
+import com.cookiesstore.common.refresh.RefreshTokenProperties;
+import com.cookiesstore.common.threads.PinningDiagnosticsProperties;
+import com.cookiesstore.common.throttle.LoginThrottleProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Import;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @Configuration
+@EnableScheduling
 @Import(I18nConfig.class)
-@EnableConfigurationProperties(JwtProperties.class)
+@EnableConfigurationProperties({
+    JwtProperties.class,
+    AuthorizationCacheProperties.class,
+    AuthorizationClusterProperties.class,
+    LoginThrottleProperties.class,
+    RefreshTokenProperties.class,
+    PinningDiagnosticsProperties.class
+})
 public class CommonConfiguration {
 }
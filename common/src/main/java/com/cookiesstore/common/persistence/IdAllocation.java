@@ -0,0 +1,14 @@
+package com.cookiesstore.common.persistence;
+
+/**
+ * Block size of the pooled id sequences. Entity {@code @SequenceGenerator}s and code that reserves ids with
+ * {@code nextval} directly must use this value, and the database sequences must step by it (see the
+ * {@code V3__pooled_id_sequences} migration); otherwise the two allocate overlapping ids.
+ */
+public final class IdAllocation {
+
+    public static final int SIZE = 50;
+
+    private IdAllocation() {
+    }
+}
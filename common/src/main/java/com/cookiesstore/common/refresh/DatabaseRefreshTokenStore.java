@@ -0,0 +1,57 @@
+package com.cookiesstore.common.refresh;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Postgres-backed store, used when Redis is not configured for refresh tokens. Saving a successor is not atomic
+ * with consuming its predecessor, so a family revoked in between can still gain a row; revoked rows therefore
+ * act as the family's revocation marker, as the Redis store's family key does, and consumption checks them.
+ */
+public class DatabaseRefreshTokenStore implements RefreshTokenStore {
+
+    private final RefreshTokenRepository repository;
+
+    public DatabaseRefreshTokenStore(RefreshTokenRepository repository) {
+        this.repository = repository;
+    }
+
+    @Override
+    public void save(String tokenHash, Long userId, String familyId, Instant issuedAt, Instant expiresAt) {
+        repository.save(new RefreshToken(tokenHash, userId, familyId, issuedAt, expiresAt));
+    }
+
+    @Override
+    public Consumption consume(String tokenHash, Instant now) {
+        boolean consumed = repository.markRotated(tokenHash, now) == 1;
+        Optional<RefreshToken> stored = repository.findById(tokenHash);
+        if (stored.isEmpty()) {
+            return Consumption.INVALID;
+        }
+
+        RefreshToken token = stored.get();
+        if (consumed) {
+            return new Consumption(Status.CONSUMED, token.getUserId(), token.getFamilyId(), token.getCreatedAt(), now);
+        }
+        if (token.getRotatedAt() != null) {
+            return new Consumption(
+                Status.ALREADY_CONSUMED, token.getUserId(), token.getFamilyId(), token.getCreatedAt(), token.getRotatedAt()
+            );
+        }
+        return Consumption.INVALID;
+    }
+
+    @Override
+    public void revokeFamily(String familyId) {
+        repository.revokeFamily(familyId, Instant.now());
+    }
+
+    @Override
+    public void revokeUser(Long userId) {
+        repository.revokeUser(userId, Instant.now());
+    }
+
+    public int deleteExpired(Instant before) {
+        return repository.deleteExpired(before);
+    }
+}
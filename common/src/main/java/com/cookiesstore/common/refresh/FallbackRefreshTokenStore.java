@@ -0,0 +1,68 @@
+package com.cookiesstore.common.refresh;
+
+import java.time.Instant;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+
+/**
+ * Redis store with a Postgres fallback. Tokens are saved to Redis and, while Redis fails, to the database;
+ * consumption tries Redis first and then the database, so tokens issued during an outage keep rotating
+ * after Redis returns. Tokens held only by Redis cannot be checked while it is down: their holders log in
+ * again, and the new session lives in the database. Revocations are applied to both stores.
+ */
+public class FallbackRefreshTokenStore implements RefreshTokenStore {
+
+    private static final Logger log = LoggerFactory.getLogger(FallbackRefreshTokenStore.class);
+
+    private final RefreshTokenStore primary;
+    private final DatabaseRefreshTokenStore fallback;
+
+    public FallbackRefreshTokenStore(RefreshTokenStore primary, DatabaseRefreshTokenStore fallback) {
+        this.primary = primary;
+        this.fallback = fallback;
+    }
+
+    @Override
+    public void save(String tokenHash, Long userId, String familyId, Instant issuedAt, Instant expiresAt) {
+        try {
+            primary.save(tokenHash, userId, familyId, issuedAt, expiresAt);
+        } catch (DataAccessException ex) {
+            log.warn("Could not save a refresh token to Redis; saving it to the database instead", ex);
+            fallback.save(tokenHash, userId, familyId, issuedAt, expiresAt);
+        }
+    }
+
+    @Override
+    public Consumption consume(String tokenHash, Instant now) {
+        try {
+            Consumption consumption = primary.consume(tokenHash, now);
+            if (consumption.status() != Status.INVALID) {
+                return consumption;
+            }
+        } catch (DataAccessException ex) {
+            log.warn("Could not consume a refresh token in Redis; trying the database", ex);
+        }
+        return fallback.consume(tokenHash, now);
+    }
+
+    @Override
+    public void revokeFamily(String familyId) {
+        fallback.revokeFamily(familyId);
+        try {
+            primary.revokeFamily(familyId);
+        } catch (DataAccessException ex) {
+            log.error("Could not revoke refresh token family {} in Redis", familyId, ex);
+        }
+    }
+
+    @Override
+    public void revokeUser(Long userId) {
+        fallback.revokeUser(userId);
+        try {
+            primary.revokeUser(userId);
+        } catch (DataAccessException ex) {
+            log.error("Could not revoke the refresh tokens of user {} in Redis", userId, ex);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.cookiesstore.common.refresh;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+/**
+ * Redis-backed store: one hash per token that expires with it, and revocation markers per family and per user
+ * (holding the user's cutoff) that outlive every token they cover. Consumption is a script, so two concurrent
+ * rotations of the same token cannot both succeed.
+ */
+public class RedisRefreshTokenStore implements RefreshTokenStore {
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> CONSUME = new DefaultRedisScript<>("""
+        local fields = redis.call('HMGET', KEYS[1], 'u', 'f', 'r', 'i')
+        if not fields[1] then
+          return {}
+        end
+        if redis.call('EXISTS', ARGV[2] .. fields[2]) == 1 then
+          return {}
+        end
+        local issued = fields[4] or '0'
+        local cutoff = redis.call('GET', ARGV[3] .. fields[1])
+        if cutoff and tonumber(issued) <= tonumber(cutoff) then
+          return {}
+        end
+        if fields[3] then
+          return {fields[1], fields[2], fields[3], '0', issued}
+        end
+        redis.call('HSET', KEYS[1], 'r', ARGV[1])
+        return {fields[1], fields[2], ARGV[1], '1', issued}
+        """, List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final String keyPrefix;
+    private final Duration ttl;
+
+    public RedisRefreshTokenStore(StringRedisTemplate redisTemplate, String keyPrefix, Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.keyPrefix = keyPrefix;
+        this.ttl = ttl;
+    }
+
+    @Override
+    public void save(String tokenHash, Long userId, String familyId, Instant issuedAt, Instant expiresAt) {
+        String key = tokenKey(tokenHash);
+        redisTemplate.opsForHash().putAll(key, Map.of(
+            "u", String.valueOf(userId),
+            "f", familyId,
+            "i", String.valueOf(issuedAt.toEpochMilli())
+        ));
+        redisTemplate.expireAt(key, expiresAt);
+    }
+
+    @Override
+    public Consumption consume(String tokenHash, Instant now) {
+        List<?> result = redisTemplate.execute(
+            CONSUME,
+            List.of(tokenKey(tokenHash)),
+            String.valueOf(now.toEpochMilli()),
+            familyKeyPrefix(),
+            userKeyPrefix()
+        );
+        if (result == null || result.size() != 5) {
+            return Consumption.INVALID;
+        }
+
+        Long userId = Long.valueOf(String.valueOf(result.get(0)));
+        String familyId = String.valueOf(result.get(1));
+        Instant rotatedAt = Instant.ofEpochMilli(Long.parseLong(String.valueOf(result.get(2))));
+        Status status = "1".equals(String.valueOf(result.get(3))) ? Status.CONSUMED : Status.ALREADY_CONSUMED;
+        Instant issuedAt = Instant.ofEpochMilli(Long.parseLong(String.valueOf(result.get(4))));
+        return new Consumption(status, userId, familyId, issuedAt, rotatedAt);
+    }
+
+    @Override
+    public void revokeFamily(String familyId) {
+        redisTemplate.opsForValue().set(familyKeyPrefix() + familyId, "1", ttl);
+    }
+
+    @Override
+    public void revokeUser(Long userId) {
+        redisTemplate.opsForValue().set(userKeyPrefix() + userId, String.valueOf(Instant.now().toEpochMilli()), ttl);
+    }
+
+    private String tokenKey(String tokenHash) {
+        return keyPrefix + "token:" + tokenHash;
+    }
+
+    private String familyKeyPrefix() {
+        return keyPrefix + "revoked-family:";
+    }
+
+    private String userKeyPrefix() {
+        return keyPrefix + "revoked-user:";
+    }
+}
@@ -0,0 +1,50 @@
+package com.cookiesstore.common.refresh;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "security.refresh-token")
+public class RefreshTokenProperties {
+
+    public enum Store {
+        DATABASE,
+        REDIS
+    }
+
+    private Duration ttl = Duration.ofHours(8);
+    private Duration reuseGrace = Duration.ofSeconds(10);
+    private Store store = Store.DATABASE;
+    private String redisKeyPrefix = "refresh-token:";
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    public void setTtl(Duration ttl) {
+        this.ttl = ttl;
+    }
+
+    public Duration getReuseGrace() {
+        return reuseGrace;
+    }
+
+    public void setReuseGrace(Duration reuseGrace) {
+        this.reuseGrace = reuseGrace;
+    }
+
+    public Store getStore() {
+        return store;
+    }
+
+    public void setStore(Store store) {
+        this.store = store;
+    }
+
+    public String getRedisKeyPrefix() {
+        return redisKeyPrefix;
+    }
+
+    public void setRedisKeyPrefix(String redisKeyPrefix) {
+        this.redisKeyPrefix = redisKeyPrefix;
+    }
+}
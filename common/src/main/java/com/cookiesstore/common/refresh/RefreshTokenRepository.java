@@ -0,0 +1,51 @@
+package com.cookiesstore.common.refresh;
+
+import java.time.Instant;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, String> {
+
+    /**
+     * Marks a live token as rotated; returns 0 when it is unknown, expired, revoked or already rotated, or when
+     * any token of its family is revoked. The last check catches a successor saved after its family was revoked.
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+        update RefreshToken t set t.rotatedAt = :now
+        where t.tokenHash = :tokenHash and t.rotatedAt is null and t.revokedAt is null and t.expiresAt > :now
+          and not exists (
+            select 1 from RefreshToken o where o.familyId = t.familyId and o.revokedAt is not null
+          )
+        """)
+    int markRotated(@Param("tokenHash") String tokenHash, @Param("now") Instant now);
+
+    @Transactional
+    @Modifying
+    @Query("update RefreshToken t set t.revokedAt = :now where t.familyId = :familyId and t.revokedAt is null")
+    int revokeFamily(@Param("familyId") String familyId, @Param("now") Instant now);
+
+    @Transactional
+    @Modifying
+    @Query("update RefreshToken t set t.revokedAt = :now where t.userId = :userId and t.revokedAt is null")
+    int revokeUser(@Param("userId") Long userId, @Param("now") Instant now);
+
+    /**
+     * Deletes expired tokens, except revoked ones while their family still holds a live token: those rows are
+     * the family's revocation marker.
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+        delete from RefreshToken t
+        where t.expiresAt < :before
+          and (t.revokedAt is null or not exists (
+            select 1 from RefreshToken o where o.familyId = t.familyId and o.expiresAt >= :before
+          ))
+        """)
+    int deleteExpired(@Param("before") Instant before);
+}
@@ -0,0 +1,174 @@
+package com.cookiesstore.common.refresh;
+
+import com.cookiesstore.common.auth.JwtProperties;
+import com.cookiesstore.common.auth.JwtTokenProvider;
+import com.cookiesstore.common.auth.TokenRevocationRegistry;
+import com.cookiesstore.common.auth.UserTokensRevokedEvent;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StringUtils;
+
+/**
+ * Issues short-lived access tokens together with opaque refresh tokens and rotates them.
+ *
+ * <p>A refresh token is {@code <familyId>.<secret>}; only its SHA-256 is stored. Every refresh consumes the
+ * presented token and issues its successor in the same family. Presenting an already consumed token again
+ * means it leaked, so the whole family is revoked, except within {@code reuse-grace} of the rotation, which
+ * covers parallel requests racing with the same cookie. Revoking a user revokes their stored families too, so
+ * deactivation does not depend on the deny-list still holding the user's cutoff.
+ */
+@Component
+public class RefreshTokenService {
+
+    private static final Logger log = LoggerFactory.getLogger(RefreshTokenService.class);
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private final RefreshTokenProperties properties;
+    private final JwtProperties jwtProperties;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+    private final RefreshTokenStore store;
+    private final DatabaseRefreshTokenStore databaseStore;
+    private final SecureRandom random = new SecureRandom();
+    private final LongAdder reuseDetected = new LongAdder();
+
+    public RefreshTokenService(
+        RefreshTokenProperties properties,
+        JwtProperties jwtProperties,
+        JwtTokenProvider jwtTokenProvider,
+        TokenRevocationRegistry tokenRevocationRegistry,
+        ObjectProvider<StringRedisTemplate> redisTemplate,
+        ObjectProvider<RefreshTokenRepository> repository
+    ) {
+        if (properties.getTtl().compareTo(jwtProperties.getRevocation().getUserRetention()) > 0) {
+            throw new IllegalStateException("security.refresh-token.ttl (" + properties.getTtl()
+                + ") must not exceed security.jwt.revocation.user-retention ("
+                + jwtProperties.getRevocation().getUserRetention() + ")");
+        }
+        this.properties = properties;
+        this.jwtProperties = jwtProperties;
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.tokenRevocationRegistry = tokenRevocationRegistry;
+        this.databaseStore = new DatabaseRefreshTokenStore(repository.getObject());
+        this.store = properties.getStore() == RefreshTokenProperties.Store.REDIS
+            ? new FallbackRefreshTokenStore(
+                new RedisRefreshTokenStore(redisTemplate.getObject(), properties.getRedisKeyPrefix(), properties.getTtl()),
+                databaseStore
+            )
+            : databaseStore;
+    }
+
+    /**
+     * Starts a new refresh family, e.g. after a password login.
+     */
+    public TokenPair issue(Long userId) {
+        return issue(userId, UUID.randomUUID().toString());
+    }
+
+    /**
+     * Rotates {@code refreshToken}; empty when it is not acceptable, in which case the caller must authenticate again.
+     */
+    public Optional<TokenPair> refresh(String refreshToken) {
+        String familyId = familyOf(refreshToken);
+        if (familyId == null) {
+            return Optional.empty();
+        }
+
+        Instant now = Instant.now();
+        RefreshTokenStore.Consumption consumption = store.consume(hash(refreshToken), now);
+        switch (consumption.status()) {
+            case CONSUMED -> {
+                if (tokenRevocationRegistry.isUserRevoked(consumption.userId(), consumption.issuedAt())) {
+                    store.revokeFamily(consumption.familyId());
+                    return Optional.empty();
+                }
+                return Optional.of(issue(consumption.userId(), consumption.familyId()));
+            }
+            case ALREADY_CONSUMED -> {
+                if (consumption.rotatedAt().plus(properties.getReuseGrace()).isBefore(now)) {
+                    reuseDetected.increment();
+                    log.warn("Refresh token reuse detected for user {}; revoking token family {}",
+                        consumption.userId(), consumption.familyId());
+                    store.revokeFamily(consumption.familyId());
+                }
+                return Optional.empty();
+            }
+            default -> {
+                return Optional.empty();
+            }
+        }
+    }
+
+    /**
+     * Revokes the family of {@code refreshToken}, e.g. on logout. Unparseable tokens are ignored.
+     */
+    public void revoke(String refreshToken) {
+        String familyId = familyOf(refreshToken);
+        if (familyId != null) {
+            store.revokeFamily(familyId);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserTokensRevoked(UserTokensRevokedEvent event) {
+        store.revokeUser(event.userId());
+    }
+
+    public long reuseDetected() {
+        return reuseDetected.sum();
+    }
+
+    @Scheduled(fixedDelayString = "${security.refresh-token.cleanup-interval:PT1H}")
+    public void deleteExpired() {
+        int deleted = databaseStore.deleteExpired(Instant.now());
+        if (deleted > 0) {
+            log.debug("Deleted {} expired refresh tokens", deleted);
+        }
+    }
+
+    private TokenPair issue(Long userId, String familyId) {
+        Instant now = Instant.now();
+        String accessToken = jwtTokenProvider.generateToken(userId);
+
+        byte[] secret = new byte[32];
+        random.nextBytes(secret);
+        String refreshToken = familyId + "." + ENCODER.encodeToString(secret);
+        Instant refreshExpiresAt = now.plus(properties.getTtl());
+        store.save(hash(refreshToken), userId, familyId, now, refreshExpiresAt);
+
+        return new TokenPair(accessToken, now.plus(jwtProperties.getExpiration()), refreshToken, refreshExpiresAt);
+    }
+
+    private static String familyOf(String refreshToken) {
+        if (!StringUtils.hasText(refreshToken)) {
+            return null;
+        }
+        int separator = refreshToken.indexOf('.');
+        return separator == 36 ? refreshToken.substring(0, separator) : null;
+    }
+
+    private static String hash(String refreshToken) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(refreshToken.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.cookiesstore.common.refresh;
+
+import java.time.Instant;
+
+/**
+ * Keeps issued refresh tokens by hash. {@link #consume} is the single atomic step of a rotation: a token
+ * can be consumed once, later presentations report how it was used so the caller can detect reuse.
+ */
+public interface RefreshTokenStore {
+
+    void save(String tokenHash, Long userId, String familyId, Instant issuedAt, Instant expiresAt);
+
+    Consumption consume(String tokenHash, Instant now);
+
+    void revokeFamily(String familyId);
+
+    /**
+     * Revokes every family of {@code userId} holding a token issued up to now, e.g. when the user is deactivated.
+     */
+    void revokeUser(Long userId);
+
+    enum Status {
+        /** The token was live and is now consumed; the caller may issue its successor. */
+        CONSUMED,
+        /** The token was already consumed; {@code rotatedAt} tells when. */
+        ALREADY_CONSUMED,
+        /** Unknown, expired or revoked. */
+        INVALID
+    }
+
+    record Consumption(Status status, Long userId, String familyId, Instant issuedAt, Instant rotatedAt) {
+
+        static final Consumption INVALID = new Consumption(Status.INVALID, null, null, null, null);
+    }
+}
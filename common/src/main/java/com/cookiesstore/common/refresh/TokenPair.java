@@ -0,0 +1,6 @@
+package com.cookiesstore.common.refresh;
+
+import java.time.Instant;
+
+public record TokenPair(String accessToken, Instant accessExpiresAt, String refreshToken, Instant refreshExpiresAt) {
+}
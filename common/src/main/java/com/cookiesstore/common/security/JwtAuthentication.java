@@ -0,0 +1,71 @@
+package com.cookiesstore.common.security;
+
+import java.io.Serial;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+/**
+ * Authentication built from a verified access token. The principal is the user id, as with the
+ * {@code UsernamePasswordAuthenticationToken} it replaces, and every instance reports the same immutable
+ * {@code ROLE_USER} authority list.
+ */
+public final class JwtAuthentication implements Authentication {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    static final List<GrantedAuthority> AUTHORITIES = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+
+    private final Long userId;
+    private boolean authenticated = true;
+
+    public JwtAuthentication(Long userId) {
+        this.userId = userId;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return AUTHORITIES;
+    }
+
+    @Override
+    public Object getCredentials() {
+        return null;
+    }
+
+    @Override
+    public Object getDetails() {
+        return null;
+    }
+
+    @Override
+    public Object getPrincipal() {
+        return userId;
+    }
+
+    @Override
+    public boolean isAuthenticated() {
+        return authenticated;
+    }
+
+    @Override
+    public void setAuthenticated(boolean authenticated) {
+        if (authenticated && !this.authenticated) {
+            throw new IllegalArgumentException("A JWT authentication cannot be re-trusted once cleared");
+        }
+        this.authenticated = authenticated;
+    }
+
+    @Override
+    public String getName() {
+        return String.valueOf(userId);
+    }
+
+    @Override
+    public String toString() {
+        return "JwtAuthentication[userId=" + userId + ", authorities=" + AUTHORITIES + "]";
+    }
+}
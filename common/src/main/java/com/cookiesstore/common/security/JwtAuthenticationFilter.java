@@ -1,19 +1,22 @@
 package com.cookiesstore.common.security;
 
 import com.cookiesstore.common.auth.AuthCookieNames;
-import com.cookiesstore.common.auth.JwtTokenProvider;
+import com.cookiesstore.common.auth.AuthCookies;
+import com.cookiesstore.common.auth.TokenRevocationRegistry;
+import com.cookiesstore.common.auth.VerifiedToken;
+import com.cookiesstore.common.auth.VerifiedTokenCache;
+import com.cookiesstore.common.refresh.RefreshTokenService;
+import com.cookiesstore.common.refresh.TokenPair;
+import com.cookiesstore.common.security.RequestPathClassifier.PathKind;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
-import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.util.List;
+import java.util.Optional;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseCookie;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -21,10 +24,24 @@ import org.springframework.web.filter.OncePerRequestFilter;
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtTokenProvider jwtTokenProvider;
-
-    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider) {
-        this.jwtTokenProvider = jwtTokenProvider;
+    private static final RequestPathClassifier PATHS = new RequestPathClassifier(
+        SecurityConfig.TOKENLESS_PATHS,
+        SecurityConfig.LOGIN_PATH,
+        SecurityConfig.ADMIN_PREFIX
+    );
+
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+    private final ObjectProvider<RefreshTokenService> refreshTokenService;
+
+    public JwtAuthenticationFilter(
+        VerifiedTokenCache verifiedTokenCache,
+        TokenRevocationRegistry tokenRevocationRegistry,
+        ObjectProvider<RefreshTokenService> refreshTokenService
+    ) {
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.tokenRevocationRegistry = tokenRevocationRegistry;
+        this.refreshTokenService = refreshTokenService;
     }
 
     @Override
@@ -33,20 +50,33 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         HttpServletResponse response,
         FilterChain filterChain
     ) throws ServletException, IOException {
-        String token = resolveToken(request);
-        String path = request.getRequestURI();
+        PathKind kind = PATHS.classify(request.getRequestURI());
+        if (kind == PathKind.TOKENLESS) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String bearerToken = resolveBearerToken(request);
+        String token = bearerToken != null ? bearerToken : AuthCookies.read(request, AuthCookieNames.ADMIN_AUTH_TOKEN);
 
-        if (token != null) {
-            if (!jwtTokenProvider.isValid(token)) {
+        Optional<VerifiedToken> verified = token == null
+            ? Optional.empty()
+            : verifiedTokenCache.verify(token).filter(verifiedToken -> !tokenRevocationRegistry.isRevoked(verifiedToken));
+        if (verified.isEmpty() && bearerToken == null) {
+            verified = refreshFromCookie(request, response);
+        }
+
+        if (token != null || verified.isPresent()) {
+            if (verified.isEmpty()) {
                 SecurityContextHolder.clearContext();
                 clearAuthCookie(response);
 
-                if (isAdminPath(path) && !"/admin/login".equals(path)) {
-                    response.sendRedirect("/admin/login?error");
+                if (kind == PathKind.ADMIN) {
+                    response.sendRedirect(SecurityConfig.LOGIN_PATH + "?error");
                     return;
                 }
 
-                if ("/admin/login".equals(path)) {
+                if (kind == PathKind.LOGIN) {
                     filterChain.doFilter(request, response);
                     return;
                 }
@@ -55,51 +85,43 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 return;
             }
 
-            Long userId = jwtTokenProvider.extractUserId(token);
-            UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                userId,
-                null,
-                List.of(new SimpleGrantedAuthority("ROLE_USER"))
-            );
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+            SecurityContextHolder.getContext().setAuthentication(new JwtAuthentication(verified.get().userId()));
         }
 
         filterChain.doFilter(request, response);
     }
 
-    private String resolveToken(HttpServletRequest request) {
+    private String resolveBearerToken(HttpServletRequest request) {
         String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
         if (authorization != null && authorization.startsWith("Bearer ")) {
             return authorization.substring(7);
         }
+        return null;
+    }
 
-        Cookie[] cookies = request.getCookies();
-        if (cookies == null) {
-            return null;
+    /**
+     * Browser sessions keep a refresh cookie next to the short-lived access cookie; when the access token is
+     * missing or expired, rotate the refresh token and continue the request with the new access token.
+     */
+    private Optional<VerifiedToken> refreshFromCookie(HttpServletRequest request, HttpServletResponse response) {
+        RefreshTokenService refreshTokens = refreshTokenService.getIfAvailable();
+        String refreshToken = AuthCookies.read(request, AuthCookieNames.ADMIN_REFRESH_TOKEN);
+        if (refreshTokens == null || refreshToken == null) {
+            return Optional.empty();
         }
 
-        for (Cookie cookie : cookies) {
-            if (AuthCookieNames.ADMIN_AUTH_TOKEN.equals(cookie.getName())
-                && cookie.getValue() != null
-                && !cookie.getValue().isBlank()) {
-                return cookie.getValue();
-            }
+        Optional<TokenPair> refreshed = refreshTokens.refresh(refreshToken);
+        if (refreshed.isEmpty()) {
+            return Optional.empty();
         }
 
-        return null;
-    }
-
-    private boolean isAdminPath(String path) {
-        return path != null && path.startsWith("/admin");
+        TokenPair tokens = refreshed.get();
+        AuthCookies.set(response, AuthCookieNames.ADMIN_AUTH_TOKEN, tokens.accessToken(), tokens.accessExpiresAt());
+        AuthCookies.set(response, AuthCookieNames.ADMIN_REFRESH_TOKEN, tokens.refreshToken(), tokens.refreshExpiresAt());
+        return verifiedTokenCache.verify(tokens.accessToken());
     }
 
     private void clearAuthCookie(HttpServletResponse response) {
-        ResponseCookie cleared = ResponseCookie.from(AuthCookieNames.ADMIN_AUTH_TOKEN, "")
-            .httpOnly(true)
-            .path("/")
-            .maxAge(0)
-            .sameSite("Lax")
-            .build();
-        response.addHeader(HttpHeaders.SET_COOKIE, cleared.toString());
+        AuthCookies.clear(response, AuthCookieNames.ADMIN_AUTH_TOKEN);
     }
 }
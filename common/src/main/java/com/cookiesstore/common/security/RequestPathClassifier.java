@@ -0,0 +1,74 @@
+package com.cookiesstore.common.security;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Classifies request paths for {@link JwtAuthenticationFilter} with plain string comparisons. Token-less
+ * patterns are compiled once into exact paths and {@code /prefix/**} prefixes; other pattern shapes are
+ * rejected so the classifier can never disagree with the matchers it mirrors.
+ */
+final class RequestPathClassifier {
+
+    enum PathKind {
+        /** Permitted without authentication and never needs the caller's identity; token work is skipped. */
+        TOKENLESS,
+        /** The backoffice login page: permitted, but redirects callers that are already signed in. */
+        LOGIN,
+        /** Backoffice pages: an invalid token redirects to the login page. */
+        ADMIN,
+        /** Everything else: an invalid token is a 401. */
+        PROTECTED
+    }
+
+    private static final String WILDCARD_SUFFIX = "/**";
+
+    private final Set<String> exactPaths = new HashSet<>();
+    private final String[] prefixes;
+    private final String loginPath;
+    private final String adminPrefix;
+
+    RequestPathClassifier(String[] tokenlessPatterns, String loginPath, String adminPrefix) {
+        List<String> prefixList = new ArrayList<>();
+        for (String pattern : tokenlessPatterns) {
+            if (pattern.endsWith(WILDCARD_SUFFIX)) {
+                String base = pattern.substring(0, pattern.length() - WILDCARD_SUFFIX.length());
+                requireLiteral(base, pattern);
+                exactPaths.add(base);
+                prefixList.add(base + "/");
+            } else {
+                requireLiteral(pattern, pattern);
+                exactPaths.add(pattern);
+            }
+        }
+        this.prefixes = prefixList.toArray(String[]::new);
+        this.loginPath = loginPath;
+        this.adminPrefix = adminPrefix;
+    }
+
+    PathKind classify(String path) {
+        if (path == null) {
+            return PathKind.PROTECTED;
+        }
+        if (exactPaths.contains(path)) {
+            return PathKind.TOKENLESS;
+        }
+        for (String prefix : prefixes) {
+            if (path.startsWith(prefix)) {
+                return PathKind.TOKENLESS;
+            }
+        }
+        if (path.equals(loginPath)) {
+            return PathKind.LOGIN;
+        }
+        return path.startsWith(adminPrefix) ? PathKind.ADMIN : PathKind.PROTECTED;
+    }
+
+    private static void requireLiteral(String path, String pattern) {
+        if (!path.startsWith("/") || path.indexOf('*') >= 0 || path.indexOf('{') >= 0 || path.indexOf('?') >= 0) {
+            throw new IllegalArgumentException("Unsupported token-less path pattern: " + pattern);
+        }
+    }
+}
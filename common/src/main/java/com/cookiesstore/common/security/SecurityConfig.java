@@ -14,6 +14,22 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 @EnableMethodSecurity
 public class SecurityConfig {
 
+    /**
+     * Paths open to everyone that never look at the caller's identity. {@link JwtAuthenticationFilter}
+     * skips token work on them, so only exact paths and {@code /prefix/**} patterns are allowed here.
+     */
+    static final String[] TOKENLESS_PATHS = {
+        "/public/**",
+        "/api/auth/**",
+        "/actuator/health",
+        "/error",
+        "/error/**"
+    };
+
+    static final String LOGIN_PATH = "/admin/login";
+
+    static final String ADMIN_PREFIX = "/admin";
+
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
 
     public SecurityConfig(JwtAuthenticationFilter jwtAuthenticationFilter) {
@@ -29,19 +45,13 @@ public class SecurityConfig {
             .logout(AbstractHttpConfigurer::disable)
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(auth -> auth
-                .requestMatchers(
-                    "/public/**",
-                    "/api/auth/**",
-                    "/actuator/health",
-                    "/admin/login",
-                    "/error",
-                    "/error/**"
-                ).permitAll()
+                .requestMatchers(TOKENLESS_PATHS).permitAll()
+                .requestMatchers(LOGIN_PATH).permitAll()
                 .anyRequest().authenticated())
             .exceptionHandling(ex -> ex
                 .authenticationEntryPoint((request, response, authException) -> {
                     if (isAdminPage(request.getRequestURI())) {
-                        response.sendRedirect("/admin/login");
+                        response.sendRedirect(LOGIN_PATH);
                         return;
                     }
                     response.sendError(HttpStatus.UNAUTHORIZED.value(), "Unauthorized");
@@ -53,6 +63,6 @@ public class SecurityConfig {
     }
 
     private boolean isAdminPage(String path) {
-        return path != null && path.startsWith("/admin") && !path.equals("/admin/login");
+        return path != null && path.startsWith(ADMIN_PREFIX) && !path.equals(LOGIN_PATH);
     }
 }
@@ -0,0 +1,36 @@
+package com.cookiesstore.common.threads;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "threads.pinning-diagnostics")
+public class PinningDiagnosticsProperties {
+
+    private boolean enabled = false;
+    private Duration threshold = Duration.ofMillis(20);
+    private int stackDepth = 12;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getThreshold() {
+        return threshold;
+    }
+
+    public void setThreshold(Duration threshold) {
+        this.threshold = threshold;
+    }
+
+    public int getStackDepth() {
+        return stackDepth;
+    }
+
+    public void setStackDepth(int stackDepth) {
+        this.stackDepth = stackDepth;
+    }
+}
@@ -0,0 +1,108 @@
+package com.cookiesstore.common.threads;
+
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Streams the JDK's {@code jdk.VirtualThreadPinned} events in-process and logs each pin longer than the
+ * threshold, pointing at the first frame from our own packages. A virtual thread that blocks inside a
+ * {@code synchronized} block or a native frame keeps its carrier thread; with a handful of carriers a few
+ * such pins stall every request, so they are worth seeing in production logs rather than only in a JFR dump.
+ */
+@Component
+@ConditionalOnProperty(prefix = "threads.pinning-diagnostics", name = "enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor implements InitializingBean, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String OWN_PACKAGE = "com.cookiesstore.";
+
+    private final PinningDiagnosticsProperties properties;
+    private final LongAdder pinnedEvents = new LongAdder();
+    private final LongAdder ownCodePinnedEvents = new LongAdder();
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(PinningDiagnosticsProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(properties.getThreshold()).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+        log.info("Reporting virtual threads pinned for longer than {}", properties.getThreshold());
+    }
+
+    void onPinned(RecordedEvent event) {
+        pinnedEvents.increment();
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        List<RecordedFrame> frames = stackTrace == null ? List.of() : stackTrace.getFrames();
+        RecordedFrame ownFrame = null;
+        for (RecordedFrame frame : frames) {
+            if (frame.isJavaFrame() && frame.getMethod().getType().getName().startsWith(OWN_PACKAGE)) {
+                ownFrame = frame;
+                break;
+            }
+        }
+        if (ownFrame != null) {
+            ownCodePinnedEvents.increment();
+        }
+
+        if (log.isWarnEnabled()) {
+            log.warn(
+                "Virtual thread pinned its carrier for {} ms at {}{}",
+                event.getDuration().toMillis(),
+                ownFrame != null ? describe(ownFrame) : "library code",
+                formatFrames(frames)
+            );
+        }
+    }
+
+    /**
+     * Pins seen since startup.
+     */
+    public long pinnedEvents() {
+        return pinnedEvents.sum();
+    }
+
+    /**
+     * Pins whose stack passes through our own code, i.e. the ones we can fix by replacing a {@code synchronized}
+     * block with a {@code ReentrantLock}.
+     */
+    public long ownCodePinnedEvents() {
+        return ownCodePinnedEvents.sum();
+    }
+
+    private String formatFrames(List<RecordedFrame> frames) {
+        StringBuilder builder = new StringBuilder();
+        int limit = Math.min(frames.size(), properties.getStackDepth());
+        for (int i = 0; i < limit; i++) {
+            builder.append(System.lineSeparator()).append("\tat ").append(describe(frames.get(i)));
+        }
+        return builder.toString();
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+
+    @Override
+    public void destroy() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+}
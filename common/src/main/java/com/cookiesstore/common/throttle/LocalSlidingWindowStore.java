@@ -0,0 +1,65 @@
+package com.cookiesstore.common.throttle;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Per-node store. Each key holds an immutable window state swapped with compare-and-set, so concurrent
+ * attempts on the same key never take a lock.
+ */
+public class LocalSlidingWindowStore implements SlidingWindowStore {
+
+    private record WindowState(long windowStart, long previous, long current) {
+
+        WindowState roll(long windowMillis, long nowMillis) {
+            long start = nowMillis - Math.floorMod(nowMillis, windowMillis);
+            if (start == windowStart) {
+                return this;
+            }
+            long carried = start - windowStart == windowMillis ? current : 0L;
+            return new WindowState(start, carried, 0L);
+        }
+    }
+
+    private final long windowMillis;
+    private final Cache<String, AtomicReference<WindowState>> windows;
+
+    public LocalSlidingWindowStore(Duration window, long maximumKeys) {
+        this.windowMillis = window.toMillis();
+        this.windows = Caffeine.newBuilder()
+            .maximumSize(maximumKeys)
+            .expireAfterAccess(window.multipliedBy(2))
+            .build();
+    }
+
+    @Override
+    public boolean tryAcquire(String key, int limit, long nowMillis) {
+        AtomicReference<WindowState> ref = windows.get(key, ignored -> new AtomicReference<>(new WindowState(
+            nowMillis - Math.floorMod(nowMillis, windowMillis), 0L, 0L
+        )));
+        while (true) {
+            WindowState observed = ref.get();
+            WindowState rolled = observed.roll(windowMillis, nowMillis);
+            double estimate = SlidingWindowStore.estimate(
+                rolled.previous(), rolled.current(), rolled.windowStart(), windowMillis, nowMillis
+            );
+            if (estimate >= limit) {
+                if (rolled != observed) {
+                    ref.compareAndSet(observed, rolled);
+                }
+                return false;
+            }
+            WindowState next = new WindowState(rolled.windowStart(), rolled.previous(), rolled.current() + 1);
+            if (ref.compareAndSet(observed, next)) {
+                return true;
+            }
+        }
+    }
+
+    @Override
+    public void reset(String key) {
+        windows.invalidate(key);
+    }
+}
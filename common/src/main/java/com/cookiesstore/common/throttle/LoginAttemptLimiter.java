@@ -0,0 +1,70 @@
+package com.cookiesstore.common.throttle;
+
+import com.cookiesstore.common.api.TooManyRequestsException;
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * Throttles login attempts per email and per client IP before any credential lookup or hashing happens.
+ * Every attempt counts against both keys; a successful login clears the email key.
+ */
+@Component
+public class LoginAttemptLimiter {
+
+    private final LoginThrottleProperties properties;
+    private final SlidingWindowStore store;
+    private final LongAdder blockedByEmail = new LongAdder();
+    private final LongAdder blockedByIp = new LongAdder();
+
+    public LoginAttemptLimiter(LoginThrottleProperties properties, ObjectProvider<StringRedisTemplate> redisTemplate) {
+        this.properties = properties;
+        this.store = properties.getMode() == LoginThrottleProperties.Mode.REDIS
+            ? new RedisSlidingWindowStore(redisTemplate.getObject(), properties.getRedisKeyPrefix(), properties.getWindow())
+            : new LocalSlidingWindowStore(properties.getWindow(), properties.getMaximumKeys());
+    }
+
+    /**
+     * Records an attempt, or throws {@link TooManyRequestsException} if either key is over its limit.
+     */
+    public void checkAttempt(String email, String clientIp) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        if (StringUtils.hasText(clientIp) && !store.tryAcquire(ipKey(clientIp), properties.getMaxAttemptsPerIp(), now)) {
+            blockedByIp.increment();
+            throw new TooManyRequestsException("Too many login attempts", properties.getWindow());
+        }
+        if (StringUtils.hasText(email) && !store.tryAcquire(emailKey(email), properties.getMaxAttemptsPerEmail(), now)) {
+            blockedByEmail.increment();
+            throw new TooManyRequestsException("Too many login attempts", properties.getWindow());
+        }
+    }
+
+    public void recordSuccess(String email) {
+        if (properties.isEnabled() && StringUtils.hasText(email)) {
+            store.reset(emailKey(email));
+        }
+    }
+
+    public long blockedByEmail() {
+        return blockedByEmail.sum();
+    }
+
+    public long blockedByIp() {
+        return blockedByIp.sum();
+    }
+
+    private static String emailKey(String email) {
+        return "email:" + email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String ipKey(String clientIp) {
+        return "ip:" + clientIp;
+    }
+}
@@ -0,0 +1,83 @@
+package com.cookiesstore.common.throttle;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Login attempt limits per email and per client IP. The per-IP limit assumes the servlet request reports the
+ * real client address: behind a proxy that requires {@code server.forward-headers-strategy} and a trusted
+ * {@code server.tomcat.remoteip.internal-proxies}, otherwise every caller shares the proxy's budget and one
+ * client can lock everybody out of login.
+ */
+@ConfigurationProperties(prefix = "security.login-throttle")
+public class LoginThrottleProperties {
+
+    public enum Mode {
+        LOCAL,
+        REDIS
+    }
+
+    private boolean enabled = true;
+    private Mode mode = Mode.LOCAL;
+    private Duration window = Duration.ofMinutes(1);
+    private int maxAttemptsPerEmail = 5;
+    private int maxAttemptsPerIp = 20;
+    private long maximumKeys = 100_000;
+    private String redisKeyPrefix = "login-throttle:";
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public void setMode(Mode mode) {
+        this.mode = mode;
+    }
+
+    public Duration getWindow() {
+        return window;
+    }
+
+    public void setWindow(Duration window) {
+        this.window = window;
+    }
+
+    public int getMaxAttemptsPerEmail() {
+        return maxAttemptsPerEmail;
+    }
+
+    public void setMaxAttemptsPerEmail(int maxAttemptsPerEmail) {
+        this.maxAttemptsPerEmail = maxAttemptsPerEmail;
+    }
+
+    public int getMaxAttemptsPerIp() {
+        return maxAttemptsPerIp;
+    }
+
+    public void setMaxAttemptsPerIp(int maxAttemptsPerIp) {
+        this.maxAttemptsPerIp = maxAttemptsPerIp;
+    }
+
+    public long getMaximumKeys() {
+        return maximumKeys;
+    }
+
+    public void setMaximumKeys(long maximumKeys) {
+        this.maximumKeys = maximumKeys;
+    }
+
+    public String getRedisKeyPrefix() {
+        return redisKeyPrefix;
+    }
+
+    public void setRedisKeyPrefix(String redisKeyPrefix) {
+        this.redisKeyPrefix = redisKeyPrefix;
+    }
+}
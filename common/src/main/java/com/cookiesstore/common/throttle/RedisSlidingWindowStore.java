@@ -0,0 +1,61 @@
+package com.cookiesstore.common.throttle;
+
+import java.time.Duration;
+import java.util.List;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+/**
+ * Cluster-wide store: one counter key per fixed window, checked and incremented atomically in a script
+ * so every node sees the same attempt count.
+ */
+public class RedisSlidingWindowStore implements SlidingWindowStore {
+
+    private static final RedisScript<Long> ACQUIRE = new DefaultRedisScript<>("""
+        local previous = tonumber(redis.call('GET', KEYS[1]) or '0')
+        local current = tonumber(redis.call('GET', KEYS[2]) or '0')
+        local estimate = previous * tonumber(ARGV[1]) + current
+        if estimate >= tonumber(ARGV[2]) then
+          return 0
+        end
+        redis.call('INCR', KEYS[2])
+        redis.call('PEXPIRE', KEYS[2], ARGV[3])
+        return 1
+        """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final String keyPrefix;
+    private final long windowMillis;
+
+    public RedisSlidingWindowStore(StringRedisTemplate redisTemplate, String keyPrefix, Duration window) {
+        this.redisTemplate = redisTemplate;
+        this.keyPrefix = keyPrefix;
+        this.windowMillis = window.toMillis();
+    }
+
+    @Override
+    public boolean tryAcquire(String key, int limit, long nowMillis) {
+        long windowIndex = Math.floorDiv(nowMillis, windowMillis);
+        long windowStart = windowIndex * windowMillis;
+        double previousWeight = Math.max(0.0d, 1.0d - (double) (nowMillis - windowStart) / windowMillis);
+        Long acquired = redisTemplate.execute(
+            ACQUIRE,
+            List.of(bucketKey(key, windowIndex - 1), bucketKey(key, windowIndex)),
+            String.valueOf(previousWeight),
+            String.valueOf(limit),
+            String.valueOf(windowMillis * 2)
+        );
+        return acquired != null && acquired == 1L;
+    }
+
+    @Override
+    public void reset(String key) {
+        long windowIndex = Math.floorDiv(System.currentTimeMillis(), windowMillis);
+        redisTemplate.delete(List.of(bucketKey(key, windowIndex - 1), bucketKey(key, windowIndex)));
+    }
+
+    private String bucketKey(String key, long windowIndex) {
+        return keyPrefix + key + ":" + windowIndex;
+    }
+}
@@ -0,0 +1,22 @@
+package com.cookiesstore.common.throttle;
+
+/**
+ * Approximate sliding-window counter: the previous fixed window is weighted by how much of it still
+ * overlaps the sliding window, plus the full count of the current fixed window.
+ */
+public interface SlidingWindowStore {
+
+    /**
+     * Counts one attempt for {@code key} unless the estimate has already reached {@code limit}.
+     *
+     * @return true when the attempt was counted, false when it must be rejected
+     */
+    boolean tryAcquire(String key, int limit, long nowMillis);
+
+    void reset(String key);
+
+    static double estimate(long previous, long current, long windowStart, long windowMillis, long nowMillis) {
+        double previousWeight = 1.0d - (double) (nowMillis - windowStart) / windowMillis;
+        return previous * Math.max(0.0d, previousWeight) + current;
+    }
+}
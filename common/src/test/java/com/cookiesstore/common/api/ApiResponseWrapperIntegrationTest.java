@@ -6,6 +6,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.cookiesstore.common.auth.JwtTokenProvider;
+import com.cookiesstore.common.auth.TokenRevocationRegistry;
+import com.cookiesstore.common.auth.VerifiedTokenCache;
 import com.cookiesstore.common.config.CommonConfiguration;
 import com.cookiesstore.common.security.JwtAuthenticationFilter;
 import com.cookiesstore.common.security.SecurityConfig;
@@ -79,6 +81,8 @@ class ApiResponseWrapperIntegrationTest {
         SecurityConfig.class,
         JwtAuthenticationFilter.class,
         JwtTokenProvider.class,
+        VerifiedTokenCache.class,
+        TokenRevocationRegistry.class,
         GlobalExceptionHandler.class,
         ApiResponseWrapperIntegrationTest.ApiTestController.class
     })
@@ -2,21 +2,37 @@ package com.cookiesstore.common.auth;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Duration;
+import java.util.Base64;
+import java.util.Map;
 
 import net.jqwik.api.ForAll;
 import net.jqwik.api.Property;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 class JwtTokenProviderTest {
 
+    private static final String SECRET_A = "ring-secret-a-with-at-least-32-bytes-long-1234567890";
+    private static final String SECRET_B = "ring-secret-b-with-at-least-32-bytes-long-1234567890";
+
     private JwtTokenProvider buildProvider(Duration expiration) {
+        return buildProvider(expiration, true);
+    }
+
+    private JwtTokenProvider buildProvider(Duration expiration, boolean fastPath) {
         JwtProperties properties = new JwtProperties();
         properties.setSecret("this-is-a-test-secret-key-with-at-least-32-bytes-long-1234567890");
         properties.setExpiration(expiration);
+        properties.setFastPath(fastPath);
         return new JwtTokenProvider(properties);
     }
 
@@ -49,6 +65,107 @@ class JwtTokenProviderTest {
         assertFalse(shortLivedProvider.isValid(token));
     }
 
+    @Test
+    void fastPathAndGenericTokensAreInterchangeable() {
+        JwtTokenProvider fast = buildProvider(Duration.ofHours(1), true);
+        JwtTokenProvider generic = buildProvider(Duration.ofHours(1), false);
+
+        assertEquals(11L, generic.extractUserId(fast.generateToken(11L)));
+        assertEquals(12L, fast.verify(generic.generateToken(12L)).orElseThrow().userId());
+    }
+
+    @Test
+    void everyTokenCarriesItsOwnTokenIdOnBothPaths() {
+        JwtTokenProvider fast = buildProvider(Duration.ofHours(1), true);
+        JwtTokenProvider generic = buildProvider(Duration.ofHours(1), false);
+
+        String fastToken = fast.generateToken(13L);
+        String fastId = fast.verify(fastToken).orElseThrow().tokenId();
+        String genericId = fast.verify(generic.generateToken(13L)).orElseThrow().tokenId();
+
+        assertNotNull(fastId);
+        assertNotNull(genericId);
+        assertNotEquals(fastId, genericId);
+        assertEquals(fastId, generic.verify(fastToken).orElseThrow().tokenId());
+    }
+
+    @Test
+    void rejectsTamperedSignatureOnFastPath() {
+        JwtTokenProvider jwtTokenProvider = buildProvider(Duration.ofHours(1));
+        String token = jwtTokenProvider.generateToken(99L);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertFalse(jwtTokenProvider.isValid(tampered));
+    }
+
+    @Test
+    void tokensOfPreviousSigningKeyVerifyDuringRollover() {
+        JwtTokenProvider before = buildRingProvider("2026-09", true);
+        JwtTokenProvider after = buildRingProvider("2026-10", true);
+        JwtTokenProvider afterGeneric = buildRingProvider("2026-10", false);
+        String oldToken = before.generateToken(31L);
+
+        assertEquals(31L, after.verify(oldToken).orElseThrow().userId());
+        assertEquals(31L, afterGeneric.verify(oldToken).orElseThrow().userId());
+        assertEquals(32L, before.verify(after.generateToken(32L)).orElseThrow().userId());
+        assertEquals(33L, before.verify(afterGeneric.generateToken(33L)).orElseThrow().userId());
+    }
+
+    @Test
+    void defaultKeyKeepsKidlessHeaderAndUnknownKidIsRejected() {
+        JwtTokenProvider legacy = buildProvider(Duration.ofHours(1));
+        String header = new String(Base64.getUrlDecoder().decode(legacy.generateToken(41L).split("\\.")[0]), StandardCharsets.UTF_8);
+
+        assertFalse(header.contains("kid"));
+        assertFalse(legacy.isValid(buildRingProvider("2026-10", true).generateToken(42L)));
+    }
+
+    @Test
+    void reloadedKeyRingSwitchesSigningKeyAndDropsRemovedKeys(@TempDir Path directory) throws IOException {
+        Path keyFile = directory.resolve("jwt-keys.properties");
+        Files.writeString(keyFile, "signing-key-id=k1\nkeys.k1=" + SECRET_A + "\n");
+        JwtProperties properties = new JwtProperties();
+        properties.getKeyRing().setLocation(keyFile.toUri().toString());
+        JwtTokenProvider provider = new JwtTokenProvider(properties);
+        String firstToken = provider.generateToken(51L);
+
+        Files.writeString(keyFile, "signing-key-id=k2\nkeys.k1=" + SECRET_A + "\nkeys.k2=" + SECRET_B + "\n");
+        provider.reloadKeys();
+
+        assertEquals("k2", provider.signingKeyId());
+        assertTrue(provider.isValid(firstToken));
+        String secondToken = provider.generateToken(52L);
+
+        Files.writeString(keyFile, "signing-key-id=k2\nkeys.k2=" + SECRET_B + "\n");
+        provider.reloadKeys();
+
+        assertFalse(provider.isValid(firstToken));
+        assertTrue(provider.isValid(secondToken));
+    }
+
+    @Test
+    void invalidKeyRingFileKeepsCurrentKeys(@TempDir Path directory) throws IOException {
+        Path keyFile = directory.resolve("jwt-keys.properties");
+        Files.writeString(keyFile, "signing-key-id=k1\nkeys.k1=" + SECRET_A + "\n");
+        JwtProperties properties = new JwtProperties();
+        properties.getKeyRing().setLocation(keyFile.toUri().toString());
+        JwtTokenProvider provider = new JwtTokenProvider(properties);
+
+        Files.writeString(keyFile, "signing-key-id=missing\nkeys.k1=" + SECRET_A + "\n");
+        provider.reloadKeys();
+
+        assertEquals("k1", provider.signingKeyId());
+        assertTrue(provider.isValid(provider.generateToken(61L)));
+    }
+
+    private JwtTokenProvider buildRingProvider(String signingKeyId, boolean fastPath) {
+        JwtProperties properties = new JwtProperties();
+        properties.setFastPath(fastPath);
+        properties.getKeyRing().setKeys(Map.of("2026-09", SECRET_A, "2026-10", SECRET_B));
+        properties.getKeyRing().setSigningKeyId(signingKeyId);
+        return new JwtTokenProvider(properties);
+    }
+
     @Property
     void roundTripUserId(@ForAll long userId) {
         JwtTokenProvider jwtTokenProvider = buildProvider(Duration.ofHours(1));
@@ -55,6 +55,14 @@ class SecurityFilterChainIntegrationTest {
             .andExpect(status().isUnauthorized());
     }
 
+    @Test
+    void publicEndpointIgnoresInvalidToken() throws Exception {
+        mockMvc.perform(get("/public/ping")
+                .header("Authorization", "Bearer invalid-token")
+                .accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk());
+    }
+
     @Test
     void protectedEndpointIsAccessibleWithValidToken() throws Exception {
         String token = jwtTokenProvider.generateToken(1001L);
@@ -71,6 +79,8 @@ class SecurityFilterChainIntegrationTest {
         SecurityConfig.class,
         JwtAuthenticationFilter.class,
         JwtTokenProvider.class,
+        VerifiedTokenCache.class,
+        TokenRevocationRegistry.class,
         SecurityFilterChainIntegrationTest.TestController.class
     })
     static class SecurityTestApplication {
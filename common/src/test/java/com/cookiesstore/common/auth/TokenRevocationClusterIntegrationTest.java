@@ -0,0 +1,80 @@
+package com.cookiesstore.common.auth;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.cookiesstore.common.TestApplication;
+import com.cookiesstore.common.test.AbstractIntegrationTest;
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest(
+    classes = TestApplication.class,
+    properties = {
+        "security.jwt.revocation.store=REDIS",
+        "security.jwt.revocation.log-size=3",
+        "security.jwt.revocation.sync-interval=PT1H"
+    }
+)
+@ActiveProfiles("test")
+class TokenRevocationClusterIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private TokenRevocationRegistry tokenRevocationRegistry;
+
+    @Autowired
+    private JwtProperties jwtProperties;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Test
+    void revocationOnOneNodeReachesAnotherOnSync() {
+        TokenRevocationRegistry otherNode = otherNode();
+        VerifiedToken token = token(601L, "cluster-jti");
+        assertFalse(otherNode.isRevoked(token));
+
+        tokenRevocationRegistry.revokeUser(601L);
+        otherNode.synchronize();
+
+        assertTrue(otherNode.isRevoked(token));
+        assertFalse(otherNode.isRevoked(token(602L, "cluster-jti-2")));
+    }
+
+    @Test
+    void nodeThatFellBehindTheChangeLogRebuildsFromTheSets() {
+        TokenRevocationRegistry otherNode = otherNode();
+
+        for (long userId = 611L; userId <= 615L; userId++) {
+            tokenRevocationRegistry.revokeUser(userId);
+        }
+        VerifiedToken revokedToken = token(616L, "trimmed-jti");
+        tokenRevocationRegistry.revokeToken(revokedToken);
+        otherNode.synchronize();
+
+        for (long userId = 611L; userId <= 615L; userId++) {
+            assertTrue(otherNode.isRevoked(token(userId, "trimmed-" + userId)));
+        }
+        assertTrue(otherNode.isRevoked(revokedToken));
+    }
+
+    private TokenRevocationRegistry otherNode() {
+        TokenRevocationRegistry node = new TokenRevocationRegistry(
+            jwtProperties,
+            applicationContext.getBeanProvider(StringRedisTemplate.class)
+        );
+        node.afterPropertiesSet();
+        return node;
+    }
+
+    private static VerifiedToken token(Long userId, String tokenId) {
+        Instant issuedAt = Instant.now().minusSeconds(30);
+        return new VerifiedToken(userId, tokenId, issuedAt, issuedAt.plus(Duration.ofMinutes(15)));
+    }
+}
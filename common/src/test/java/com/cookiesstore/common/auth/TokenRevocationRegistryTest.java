@@ -0,0 +1,87 @@
+package com.cookiesstore.common.auth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+class TokenRevocationRegistryTest {
+
+    @Test
+    void tokensOfUnrevokedUsersNeverReachTheStore() {
+        TokenRevocationRegistry registry = buildRegistry(true);
+        registry.revokeUser(1L);
+
+        for (long userId = 2L; userId < 1_000L; userId++) {
+            assertFalse(registry.isRevoked(token(userId, "jti-" + userId, Instant.now().minusSeconds(5))));
+        }
+
+        assertTrue(registry.filterHits() < 10);
+    }
+
+    @Test
+    void userRevocationRejectsTokensIssuedUpToTheCutoff() {
+        TokenRevocationRegistry registry = buildRegistry(true);
+        VerifiedToken before = token(7L, "before", Instant.now().minusSeconds(60));
+
+        registry.revokeUser(7L);
+
+        assertTrue(registry.isRevoked(before));
+        assertFalse(registry.isRevoked(token(7L, "after", Instant.now().plusSeconds(60))));
+        assertTrue(registry.isUserRevoked(7L, Instant.now().minusSeconds(1)));
+        assertFalse(registry.isUserRevoked(8L, Instant.now().minusSeconds(1)));
+    }
+
+    @Test
+    void tokenRevocationOnlyRejectsThatToken() {
+        TokenRevocationRegistry registry = buildRegistry(true);
+        VerifiedToken revoked = token(9L, "revoked-jti", Instant.now());
+
+        registry.revokeToken(revoked);
+
+        assertTrue(registry.isRevoked(revoked));
+        assertFalse(registry.isRevoked(token(9L, "other-jti", Instant.now())));
+        assertEquals(1L, registry.rejected());
+    }
+
+    @Test
+    void rebuildKeepsLiveRevocations() {
+        TokenRevocationRegistry registry = buildRegistry(true);
+        VerifiedToken revoked = token(10L, "kept-jti", Instant.now());
+        registry.revokeToken(revoked);
+
+        registry.rebuild();
+
+        assertTrue(registry.isRevoked(revoked));
+    }
+
+    @Test
+    void disabledRegistryRevokesNothing() {
+        TokenRevocationRegistry registry = buildRegistry(false);
+        VerifiedToken token = token(11L, "disabled-jti", Instant.now().minusSeconds(60));
+        registry.revokeUser(11L);
+        registry.revokeToken(token);
+
+        assertFalse(registry.isRevoked(token));
+    }
+
+    private TokenRevocationRegistry buildRegistry(boolean enabled) {
+        JwtProperties properties = new JwtProperties();
+        properties.getRevocation().setEnabled(enabled);
+        properties.getRevocation().setExpectedEntries(1_000);
+        ObjectProvider<StringRedisTemplate> noRedis = new StaticListableBeanFactory().getBeanProvider(StringRedisTemplate.class);
+        TokenRevocationRegistry registry = new TokenRevocationRegistry(properties, noRedis);
+        registry.afterPropertiesSet();
+        return registry;
+    }
+
+    private static VerifiedToken token(Long userId, String tokenId, Instant issuedAt) {
+        return new VerifiedToken(userId, tokenId, issuedAt, issuedAt.plus(Duration.ofMinutes(15)));
+    }
+}
@@ -0,0 +1,58 @@
+package com.cookiesstore.common.auth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+class VerifiedTokenCacheTest {
+
+    private JwtProperties properties(Duration expiration, boolean cacheEnabled) {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret("this-is-a-test-secret-key-with-at-least-32-bytes-long-1234567890");
+        properties.setExpiration(expiration);
+        properties.getVerifiedCache().setEnabled(cacheEnabled);
+        return properties;
+    }
+
+    @Test
+    void repeatedTokenIsVerifiedOnce() {
+        JwtProperties properties = properties(Duration.ofHours(1), true);
+        JwtTokenProvider provider = Mockito.spy(new JwtTokenProvider(properties));
+        VerifiedTokenCache cache = new VerifiedTokenCache(provider, properties);
+        String token = provider.generateToken(321L);
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(321L, cache.verify(token).orElseThrow().userId());
+        }
+
+        Mockito.verify(provider, Mockito.times(1)).verify(token);
+    }
+
+    @Test
+    void invalidTokenIsRejectedEveryTime() {
+        JwtProperties properties = properties(Duration.ofHours(1), true);
+        JwtTokenProvider provider = Mockito.spy(new JwtTokenProvider(properties));
+        VerifiedTokenCache cache = new VerifiedTokenCache(provider, properties);
+
+        assertTrue(cache.verify("invalid-token").isEmpty());
+        assertTrue(cache.verify("invalid-token").isEmpty());
+
+        Mockito.verify(provider, Mockito.times(2)).verify("invalid-token");
+    }
+
+    @Test
+    void expiredTokenIsNotServedFromCache() throws InterruptedException {
+        JwtProperties properties = properties(Duration.ofSeconds(1), true);
+        JwtTokenProvider provider = new JwtTokenProvider(properties);
+        VerifiedTokenCache cache = new VerifiedTokenCache(provider, properties);
+        String token = provider.generateToken(654L);
+
+        assertTrue(cache.verify(token).isPresent());
+        Thread.sleep(2100);
+
+        assertTrue(cache.verify(token).isEmpty());
+    }
+}
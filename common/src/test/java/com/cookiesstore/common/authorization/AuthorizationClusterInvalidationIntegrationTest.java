@@ -0,0 +1,99 @@
+package com.cookiesstore.common.authorization;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import com.cookiesstore.common.TestApplication;
+import com.cookiesstore.common.authorization.cache.PermissionSnapshot;
+import com.cookiesstore.common.authorization.cache.PermissionSnapshotCache;
+import com.cookiesstore.common.authorization.cluster.AuthorizationClusterProperties;
+import com.cookiesstore.common.authorization.event.AuthorizationChangedEvent;
+import com.cookiesstore.common.test.AbstractIntegrationTest;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest(
+    classes = TestApplication.class,
+    properties = {
+        "security.authorization.cache.enabled=true",
+        "security.authorization.cluster.enabled=true",
+        "security.authorization.cluster.gap-check-interval=PT1H"
+    }
+)
+@ActiveProfiles("test")
+class AuthorizationClusterInvalidationIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private PermissionSnapshotCache snapshotCache;
+
+    @Autowired
+    private AuthorizationClusterProperties properties;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Test
+    void foreignNoticeEvictsLocalSnapshot() {
+        AtomicInteger loads = new AtomicInteger();
+        snapshotCache.get(701L, "cluster-a", (userId, domainCode) -> counted(loads));
+
+        publishForeignNotice(701L, "cluster-a");
+
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> {
+            snapshotCache.get(701L, "cluster-a", (userId, domainCode) -> counted(loads));
+            assertEquals(2, loads.get());
+        });
+    }
+
+    @Test
+    void sequenceGapDropsEveryLocalSnapshot() {
+        AtomicInteger loads = new AtomicInteger();
+        snapshotCache.get(702L, "cluster-b", (userId, domainCode) -> counted(loads));
+
+        redisTemplate.opsForValue().increment(properties.getSequenceKey(), 5);
+        publishForeignNotice(703L, "cluster-c");
+
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> {
+            snapshotCache.get(702L, "cluster-b", (userId, domainCode) -> counted(loads));
+            assertEquals(2, loads.get());
+        });
+    }
+
+    @Test
+    void localChangeAdvancesSharedSequenceOnly() {
+        long before = sequence();
+
+        eventPublisher.publishEvent(AuthorizationChangedEvent.forDomain(704L, "cluster-d"));
+
+        assertEquals(before + 1, sequence());
+        assertFalse(redisTemplate.hasKey("authorization:versions"));
+    }
+
+    private long sequence() {
+        String value = redisTemplate.opsForValue().get(properties.getSequenceKey());
+        return value == null ? 0L : Long.parseLong(value);
+    }
+
+    private void publishForeignNotice(Long userId, String domainCode) {
+        Long sequence = redisTemplate.opsForValue().increment(properties.getSequenceKey());
+        redisTemplate.convertAndSend(
+            properties.getChannel(),
+            sequence + "|other-node|" + userId + "|" + domainCode
+        );
+    }
+
+    private PermissionSnapshot counted(AtomicInteger loads) {
+        loads.incrementAndGet();
+        return PermissionSnapshot.empty();
+    }
+}
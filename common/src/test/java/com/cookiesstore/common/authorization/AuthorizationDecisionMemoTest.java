@@ -0,0 +1,86 @@
+package com.cookiesstore.common.authorization;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.cookiesstore.common.authorization.annotation.RequiresPermission;
+import com.cookiesstore.common.authorization.evaluator.AuthorizationAspect;
+import com.cookiesstore.common.authorization.evaluator.AuthorizationDecisionMemo;
+import com.cookiesstore.common.authorization.evaluator.DomainAuthorizationEvaluator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+class AuthorizationDecisionMemoTest {
+
+    private final DomainAuthorizationEvaluator evaluator = Mockito.mock(DomainAuthorizationEvaluator.class);
+    private SecuredService service;
+
+    @BeforeEach
+    void setUp() {
+        AspectJProxyFactory factory = new AspectJProxyFactory(new SecuredService());
+        factory.addAspect(new AuthorizationAspect(evaluator));
+        service = factory.getProxy();
+
+        Authentication authentication = new TestingAuthenticationToken("42", null, "ROLE_ADMIN");
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void repeatedChecksWithinOneRequestAreEvaluatedOnce() {
+        Mockito.when(evaluator.hasPermission(Mockito.any(), Mockito.eq("main-store"), Mockito.eq("orders:list")))
+            .thenReturn(true);
+
+        service.listOrders("main-store");
+        service.listOrders("main-store");
+        service.listOrders("main-store");
+
+        Mockito.verify(evaluator, Mockito.times(1))
+            .hasPermission(Mockito.any(), Mockito.eq("main-store"), Mockito.eq("orders:list"));
+        AuthorizationDecisionMemo memo = AuthorizationDecisionMemo.current();
+        assertNotNull(memo);
+        assertEquals(2, memo.hits());
+        assertEquals(1, memo.misses());
+    }
+
+    @Test
+    void deniedDecisionIsMemoizedPerDomain() {
+        Mockito.when(evaluator.hasPermission(Mockito.any(), Mockito.eq("main-store"), Mockito.eq("orders:list")))
+            .thenReturn(false);
+        Mockito.when(evaluator.hasPermission(Mockito.any(), Mockito.eq("example.test"), Mockito.eq("orders:list")))
+            .thenReturn(true);
+
+        assertThrows(AccessDeniedException.class, () -> service.listOrders("main-store"));
+        assertThrows(AccessDeniedException.class, () -> service.listOrders("main-store"));
+        service.listOrders("example.test");
+
+        assertEquals(1, AuthorizationDecisionMemo.current().hits());
+        assertEquals(2, AuthorizationDecisionMemo.current().misses());
+    }
+
+    static class SecuredService {
+
+        @RequiresPermission("orders:list")
+        public String listOrders(@PathVariable("domainCode") String domainCode) {
+            return domainCode;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.cookiesstore.common.authorization;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.cookiesstore.common.authorization.annotation.RequiresAbility;
+import com.cookiesstore.common.authorization.annotation.RequiresPermission;
+import com.cookiesstore.common.authorization.evaluator.AuthorizedMethodValidator;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.bind.annotation.PathVariable;
+
+class AuthorizedMethodValidatorTest {
+
+    private final AuthorizedMethodValidator validator = new AuthorizedMethodValidator();
+
+    @Test
+    void acceptsMethodsWithDomainCodeArgument() {
+        assertDoesNotThrow(() -> validator.postProcessBeforeInitialization(new ValidController(), "validController"));
+    }
+
+    @Test
+    void rejectsAnnotatedMethodWithoutDomainCodeArgument() {
+        assertThrows(
+            IllegalStateException.class,
+            () -> validator.postProcessBeforeInitialization(new MissingDomainController(), "missingDomainController")
+        );
+    }
+
+    static class ValidController {
+
+        @RequiresPermission("products:list")
+        public void list(@PathVariable("domainCode") String domain) {
+        }
+
+        @RequiresAbility("manage-orders")
+        public void orders(Long id, String domainCode) {
+        }
+    }
+
+    static class MissingDomainController {
+
+        @RequiresPermission("products:list")
+        public void list(@PathVariable("id") Long id) {
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.cookiesstore.common.authorization;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -11,12 +12,16 @@ import com.cookiesstore.common.authorization.domain.UserDomainAbility;
 import com.cookiesstore.common.authorization.domain.UserDomainPermissionOverride;
 import com.cookiesstore.common.authorization.repository.AbilityRepository;
 import com.cookiesstore.common.authorization.repository.DomainRepository;
+import com.cookiesstore.common.authorization.repository.EffectiveAuthorizationRow;
 import com.cookiesstore.common.authorization.repository.PermissionRepository;
 import com.cookiesstore.common.authorization.repository.UserDomainAbilityRepository;
 import com.cookiesstore.common.authorization.repository.UserDomainPermissionOverrideRepository;
 import com.cookiesstore.common.authorization.service.DomainAuthorizationService;
 import com.cookiesstore.common.test.AbstractIntegrationTest;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -133,6 +138,52 @@ class DomainAuthorizationServiceIntegrationTest extends AbstractIntegrationTest
         assertTrue(permissions.contains("products:delete"));
     }
 
+    @Test
+    void effectiveAuthorizationQueryResolvesGrantsAndOverridesInOneStatement() {
+        Domain domain = createDomain("effective-rows");
+        Permission list = createPermission("reports:list");
+        Permission export = createPermission("reports:export");
+        Permission schedule = createPermission("reports:schedule");
+        Ability ability = createAbilityWithPermissions("view-analytics", list, export);
+        grantAbility(18L, domain, ability, true);
+        createOverride(18L, domain, export, false);
+        createOverride(18L, domain, schedule, true);
+
+        List<EffectiveAuthorizationRow> rows = userDomainAbilityRepository.findEffectiveAuthorization(18L, "effective-rows");
+
+        assertEquals(Set.of("view-analytics"), idsOrCodes(rows, EffectiveAuthorizationRow.ABILITY, true));
+        assertEquals(
+            Set.of(String.valueOf(list.getId()), String.valueOf(schedule.getId())),
+            idsOrCodes(rows, EffectiveAuthorizationRow.PERMISSION, false)
+        );
+        assertEquals(Set.of(String.valueOf(export.getId())), idsOrCodes(rows, EffectiveAuthorizationRow.DENIED, false));
+    }
+
+    @Test
+    void checkAllResolvesManyPermissionsAtOnce() {
+        Domain domain = createDomain("check-all");
+        Permission read = createPermission("invoices:read");
+        Permission voidInvoice = createPermission("invoices:void");
+        Ability ability = createAbilityWithPermissions("manage-invoices", read, voidInvoice);
+        grantAbility(19L, domain, ability, true);
+        createOverride(19L, domain, voidInvoice, false);
+
+        Map<String, Boolean> results = authorizationService.checkAll(
+            19L,
+            "check-all",
+            List.of("invoices:read", "invoices:void", "invoices:delete")
+        );
+
+        assertEquals(Map.of("invoices:read", true, "invoices:void", false, "invoices:delete", false), results);
+    }
+
+    private Set<String> idsOrCodes(List<EffectiveAuthorizationRow> rows, String kind, boolean codes) {
+        return rows.stream()
+            .filter(row -> kind.equals(row.getKind()))
+            .map(row -> codes ? row.getCode() : String.valueOf(row.getId()))
+            .collect(Collectors.toSet());
+    }
+
     private Domain createDomain(String code) {
         Domain domain = new Domain();
         domain.setCode(code);
@@ -0,0 +1,134 @@
+package com.cookiesstore.common.authorization;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.cookiesstore.common.authorization.cache.AuthorizationCacheProperties;
+import com.cookiesstore.common.authorization.cache.PermissionSnapshot;
+import com.cookiesstore.common.authorization.cache.PermissionSnapshotCache;
+import com.cookiesstore.common.authorization.registry.PermissionBits;
+import com.cookiesstore.common.authorization.registry.PermissionCatalog;
+import com.cookiesstore.common.authorization.registry.PermissionCatalog.PermissionRef;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class PermissionSnapshotCacheTest {
+
+    private static final PermissionCatalog CATALOG = PermissionCatalog.build(
+        List.of(
+            new PermissionRef(1L, "*"),
+            new PermissionRef(2L, "products:list"),
+            new PermissionRef(3L, "products:read"),
+            new PermissionRef(4L, "orders:refund")
+        ),
+        Map.of(
+            10L, List.of(1L),
+            11L, List.of(2L, 3L)
+        )
+    );
+
+    private PermissionSnapshotCache buildCache(boolean enabled) {
+        AuthorizationCacheProperties properties = new AuthorizationCacheProperties();
+        properties.setEnabled(enabled);
+        return new PermissionSnapshotCache(properties);
+    }
+
+    @Test
+    void wildcardSnapshotGrantsEveryPermission() {
+        long[] bits = CATALOG.newBits();
+        PermissionBits.or(bits, CATALOG.abilityMask(10L));
+        PermissionSnapshot snapshot = PermissionSnapshot.of(CATALOG, bits, Set.of("super-admin"), true);
+
+        assertTrue(snapshot.hasPermission("orders:refund"));
+        assertTrue(snapshot.hasAbility("super-admin"));
+        assertTrue(snapshot.hasDomainAccess());
+    }
+
+    @Test
+    void emptySnapshotDeniesEverything() {
+        PermissionSnapshot snapshot = PermissionSnapshot.of(CATALOG, CATALOG.newBits(), Set.of(), false);
+
+        assertSame(PermissionSnapshot.empty(), snapshot);
+        assertFalse(snapshot.hasPermission("products:list"));
+        assertFalse(snapshot.hasAbility("browse-catalog"));
+        assertFalse(snapshot.hasDomainAccess());
+    }
+
+    @Test
+    void abilityMaskAndOverridesResolveToBits() {
+        long[] bits = CATALOG.newBits();
+        PermissionBits.or(bits, CATALOG.abilityMask(11L));
+        PermissionBits.clear(bits, CATALOG.ordinal(3L));
+        PermissionBits.set(bits, CATALOG.ordinal(4L));
+        PermissionSnapshot snapshot = PermissionSnapshot.of(CATALOG, bits, Set.of("browse-catalog"), true);
+
+        assertTrue(snapshot.hasPermission("products:list"));
+        assertFalse(snapshot.hasPermission("products:read"));
+        assertTrue(snapshot.hasPermission("orders:refund"));
+        assertFalse(snapshot.hasPermission("unknown:permission"));
+        assertEquals(Set.of("products:list", "orders:refund"), snapshot.permissions());
+    }
+
+    @Test
+    void checkAllAnswersEveryCodeFromOneSnapshot() {
+        PermissionSnapshot snapshot = PermissionSnapshot.of(CATALOG, CATALOG.abilityMask(11L), Set.of("browse-catalog"), true);
+
+        Map<String, Boolean> results = snapshot.checkAll(List.of("products:read", "orders:refund", "products:list"));
+
+        assertEquals(List.of("products:read", "orders:refund", "products:list"), List.copyOf(results.keySet()));
+        assertTrue(results.get("products:read"));
+        assertFalse(results.get("orders:refund"));
+        assertTrue(results.get("products:list"));
+    }
+
+    @Test
+    void enabledCacheCompilesSnapshotOncePerUserAndDomain() {
+        PermissionSnapshotCache cache = buildCache(true);
+        AtomicInteger loads = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            cache.get(1L, "main-store", (userId, domainCode) -> {
+                loads.incrementAndGet();
+                return PermissionSnapshot.of(CATALOG, CATALOG.abilityMask(11L), Set.of("browse-catalog"), true);
+            });
+        }
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void evictForcesRecompilation() {
+        PermissionSnapshotCache cache = buildCache(true);
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(1L, "main-store", (userId, domainCode) -> countedEmpty(loads));
+        cache.get(1L, "example.test", (userId, domainCode) -> countedEmpty(loads));
+        cache.evict(1L, "main-store");
+        cache.get(1L, "main-store", (userId, domainCode) -> countedEmpty(loads));
+        cache.evictUser(1L);
+        cache.get(1L, "example.test", (userId, domainCode) -> countedEmpty(loads));
+
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    void disabledCacheAlwaysLoads() {
+        PermissionSnapshotCache cache = buildCache(false);
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(1L, "main-store", (userId, domainCode) -> countedEmpty(loads));
+        cache.get(1L, "main-store", (userId, domainCode) -> countedEmpty(loads));
+
+        assertEquals(2, loads.get());
+    }
+
+    private PermissionSnapshot countedEmpty(AtomicInteger loads) {
+        loads.incrementAndGet();
+        return PermissionSnapshot.empty();
+    }
+}
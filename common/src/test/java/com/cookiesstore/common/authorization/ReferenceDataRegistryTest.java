@@ -0,0 +1,97 @@
+package com.cookiesstore.common.authorization;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.cookiesstore.common.authorization.domain.Domain;
+import com.cookiesstore.common.authorization.event.AuthorizationReferenceDataChangedEvent;
+import com.cookiesstore.common.authorization.registry.ReferenceData;
+import com.cookiesstore.common.authorization.registry.ReferenceDataRegistry;
+import com.cookiesstore.common.authorization.repository.AbilityRepository;
+import com.cookiesstore.common.authorization.repository.DomainRepository;
+import com.cookiesstore.common.authorization.repository.PermissionRepository;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+class ReferenceDataRegistryTest {
+
+    private final DomainRepository domainRepository = Mockito.mock(DomainRepository.class);
+    private final AbilityRepository abilityRepository = Mockito.mock(AbilityRepository.class);
+    private final PermissionRepository permissionRepository = Mockito.mock(PermissionRepository.class);
+    private ReferenceDataRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        Mockito.when(permissionRepository.findAll()).thenReturn(List.of());
+        Mockito.when(abilityRepository.findAllWithPermissions()).thenReturn(List.of());
+        registry = new ReferenceDataRegistry(domainRepository, abilityRepository, permissionRepository);
+    }
+
+    @Test
+    void repeatedMissesOfAnUnknownCodeReloadOnce() {
+        Mockito.when(domainRepository.findAll()).thenReturn(List.of(domain(1L, "main-store")));
+
+        assertEquals(Optional.of(1L), registry.domainId("main-store"));
+        assertTrue(registry.domainId("ghost").isEmpty());
+        assertTrue(registry.domainId("ghost").isEmpty());
+        assertTrue(registry.domainId("ghost").isEmpty());
+
+        Mockito.verify(domainRepository, Mockito.times(2)).findAll();
+    }
+
+    @Test
+    void invalidationForgetsRememberedMisses() {
+        Mockito.when(domainRepository.findAll())
+            .thenReturn(List.of())
+            .thenReturn(List.of())
+            .thenReturn(List.of(domain(7L, "late-store")));
+
+        assertTrue(registry.domainId("late-store").isEmpty());
+        registry.onReferenceDataChanged(new AuthorizationReferenceDataChangedEvent("test"));
+
+        assertEquals(Optional.of(7L), registry.domainId("late-store"));
+    }
+
+    @Test
+    void missRacingAnInvalidationIsNotRemembered() {
+        Mockito.when(domainRepository.findAll())
+            .thenReturn(List.of())
+            .thenAnswer(invocation -> {
+                registry.onReferenceDataChanged(new AuthorizationReferenceDataChangedEvent("test"));
+                return List.of();
+            })
+            .thenReturn(List.of(domain(9L, "racing-store")));
+
+        assertTrue(registry.domainId("racing-store").isEmpty());
+
+        assertEquals(Optional.of(9L), registry.domainId("racing-store"));
+    }
+
+    @Test
+    void reloadStartedBeforeAnInvalidationIsNotPublished() {
+        Mockito.when(domainRepository.findAll())
+            .thenAnswer(invocation -> {
+                registry.onReferenceDataChanged(new AuthorizationReferenceDataChangedEvent("test"));
+                return List.of(domain(1L, "stale-store"));
+            })
+            .thenReturn(List.of(domain(2L, "fresh-store")));
+
+        ReferenceData stale = registry.refresh();
+        assertTrue(stale.domainIds().containsKey("stale-store"));
+
+        ReferenceData current = registry.current();
+        assertFalse(current.domainIds().containsKey("stale-store"));
+        assertEquals(2L, current.domainIds().get("fresh-store"));
+    }
+
+    private static Domain domain(Long id, String code) {
+        Domain domain = Mockito.mock(Domain.class);
+        Mockito.when(domain.getId()).thenReturn(id);
+        Mockito.when(domain.getCode()).thenReturn(code);
+        return domain;
+    }
+}
@@ -0,0 +1,62 @@
+package com.cookiesstore.common.refresh;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+class FallbackRefreshTokenStoreTest {
+
+    private final RefreshTokenStore redis = Mockito.mock(RefreshTokenStore.class);
+    private final DatabaseRefreshTokenStore database = Mockito.mock(DatabaseRefreshTokenStore.class);
+    private final FallbackRefreshTokenStore store = new FallbackRefreshTokenStore(redis, database);
+
+    private final Instant now = Instant.now();
+    private final Instant expiresAt = now.plus(Duration.ofHours(8));
+
+    @Test
+    void savesToTheDatabaseWhileRedisFails() {
+        Mockito.doThrow(new RedisConnectionFailureException("down"))
+            .when(redis).save("hash", 1L, "family", now, expiresAt);
+
+        store.save("hash", 1L, "family", now, expiresAt);
+
+        Mockito.verify(database).save("hash", 1L, "family", now, expiresAt);
+    }
+
+    @Test
+    void savesOnlyToRedisWhileItIsUp() {
+        store.save("hash", 1L, "family", now, expiresAt);
+
+        Mockito.verify(redis).save("hash", 1L, "family", now, expiresAt);
+        Mockito.verifyNoInteractions(database);
+    }
+
+    @Test
+    void consumesFromTheDatabaseWhenRedisFailsOrDoesNotKnowTheToken() {
+        RefreshTokenStore.Consumption consumed =
+            new RefreshTokenStore.Consumption(RefreshTokenStore.Status.CONSUMED, 1L, "family", now, now);
+        Mockito.when(redis.consume("down", now)).thenThrow(new RedisConnectionFailureException("down"));
+        Mockito.when(redis.consume("issued-during-outage", now)).thenReturn(RefreshTokenStore.Consumption.INVALID);
+        Mockito.when(database.consume("down", now)).thenReturn(consumed);
+        Mockito.when(database.consume("issued-during-outage", now)).thenReturn(consumed);
+
+        assertEquals(consumed, store.consume("down", now));
+        assertEquals(consumed, store.consume("issued-during-outage", now));
+    }
+
+    @Test
+    void revocationsReachTheDatabaseEvenWhenRedisFails() {
+        Mockito.doThrow(new RedisConnectionFailureException("down")).when(redis).revokeFamily("family");
+        Mockito.doThrow(new RedisConnectionFailureException("down")).when(redis).revokeUser(1L);
+
+        store.revokeFamily("family");
+        store.revokeUser(1L);
+
+        Mockito.verify(database).revokeFamily("family");
+        Mockito.verify(database).revokeUser(1L);
+    }
+}
@@ -0,0 +1,127 @@
+package com.cookiesstore.common.refresh;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.cookiesstore.common.TestApplication;
+import com.cookiesstore.common.auth.JwtTokenProvider;
+import com.cookiesstore.common.auth.UserTokensRevokedEvent;
+import com.cookiesstore.common.test.AbstractIntegrationTest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest(
+    classes = TestApplication.class,
+    properties = {
+        "security.refresh-token.store=REDIS",
+        "security.refresh-token.reuse-grace=PT0S"
+    }
+)
+@ActiveProfiles("test")
+class RefreshTokenServiceIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Test
+    void refreshRotatesTokenAndKeepsUser() {
+        TokenPair issued = refreshTokenService.issue(901L);
+
+        TokenPair rotated = refreshTokenService.refresh(issued.refreshToken()).orElseThrow();
+
+        assertNotEquals(issued.refreshToken(), rotated.refreshToken());
+        assertEquals(901L, jwtTokenProvider.extractUserId(rotated.accessToken()));
+        assertTrue(refreshTokenService.refresh(rotated.refreshToken()).isPresent());
+    }
+
+    @Test
+    void reuseOfConsumedTokenRevokesFamily() {
+        TokenPair issued = refreshTokenService.issue(902L);
+        TokenPair rotated = refreshTokenService.refresh(issued.refreshToken()).orElseThrow();
+        long before = refreshTokenService.reuseDetected();
+
+        assertTrue(refreshTokenService.refresh(issued.refreshToken()).isEmpty());
+        assertTrue(refreshTokenService.refresh(rotated.refreshToken()).isEmpty());
+        assertEquals(before + 1, refreshTokenService.reuseDetected());
+    }
+
+    @Test
+    void revokedOrMalformedTokensAreRejected() {
+        TokenPair issued = refreshTokenService.issue(903L);
+        refreshTokenService.revoke(issued.refreshToken());
+
+        assertTrue(refreshTokenService.refresh(issued.refreshToken()).isEmpty());
+        assertTrue(refreshTokenService.refresh("not-a-refresh-token").isEmpty());
+        assertTrue(refreshTokenService.refresh(null).isEmpty());
+    }
+
+    @Test
+    void databaseStoreRejectsSuccessorSavedAfterItsFamilyWasRevoked() {
+        DatabaseRefreshTokenStore store = new DatabaseRefreshTokenStore(refreshTokenRepository);
+        Instant now = Instant.now();
+        String familyId = UUID.randomUUID().toString();
+        String predecessor = randomHash();
+        String successor = randomHash();
+        store.save(predecessor, 904L, familyId, now, now.plus(Duration.ofHours(1)));
+
+        assertEquals(RefreshTokenStore.Status.CONSUMED, store.consume(predecessor, now).status());
+        store.revokeFamily(familyId);
+        store.save(successor, 904L, familyId, now, now.plus(Duration.ofHours(2)));
+        store.deleteExpired(now.plus(Duration.ofMinutes(90)));
+
+        assertTrue(refreshTokenRepository.findById(predecessor).isPresent());
+        assertEquals(RefreshTokenStore.Status.INVALID, store.consume(successor, now).status());
+    }
+
+    @Test
+    void revokedUserCannotRefreshAnyFamily() {
+        TokenPair browser = refreshTokenService.issue(905L);
+        TokenPair mobile = refreshTokenService.refresh(refreshTokenService.issue(905L).refreshToken()).orElseThrow();
+
+        eventPublisher.publishEvent(new UserTokensRevokedEvent(905L));
+
+        assertTrue(refreshTokenService.refresh(browser.refreshToken()).isEmpty());
+        assertTrue(refreshTokenService.refresh(mobile.refreshToken()).isEmpty());
+    }
+
+    @Test
+    void databaseStoreRevokesEveryFamilyOfAUser() {
+        DatabaseRefreshTokenStore store = new DatabaseRefreshTokenStore(refreshTokenRepository);
+        Instant now = Instant.now();
+        String first = randomHash();
+        String second = randomHash();
+        store.save(first, 906L, UUID.randomUUID().toString(), now, now.plus(Duration.ofHours(1)));
+        store.save(second, 906L, UUID.randomUUID().toString(), now, now.plus(Duration.ofHours(1)));
+
+        store.revokeUser(906L);
+
+        assertEquals(RefreshTokenStore.Status.INVALID, store.consume(first, now).status());
+        assertEquals(RefreshTokenStore.Status.INVALID, store.consume(second, now).status());
+    }
+
+    private static String randomHash() {
+        byte[] bytes = new byte[32];
+        RANDOM.nextBytes(bytes);
+        return HexFormat.of().formatHex(bytes);
+    }
+}
@@ -0,0 +1,48 @@
+package com.cookiesstore.common.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.cookiesstore.common.security.RequestPathClassifier.PathKind;
+import org.junit.jupiter.api.Test;
+
+class RequestPathClassifierTest {
+
+    private final RequestPathClassifier classifier = new RequestPathClassifier(
+        SecurityConfig.TOKENLESS_PATHS,
+        SecurityConfig.LOGIN_PATH,
+        SecurityConfig.ADMIN_PREFIX
+    );
+
+    @Test
+    void permitAllPatternsAreTokenless() {
+        assertEquals(PathKind.TOKENLESS, classifier.classify("/public"));
+        assertEquals(PathKind.TOKENLESS, classifier.classify("/public/css/site.css"));
+        assertEquals(PathKind.TOKENLESS, classifier.classify("/api/auth/refresh"));
+        assertEquals(PathKind.TOKENLESS, classifier.classify("/actuator/health"));
+        assertEquals(PathKind.TOKENLESS, classifier.classify("/error"));
+    }
+
+    @Test
+    void lookalikePathsAreNotTokenless() {
+        assertEquals(PathKind.PROTECTED, classifier.classify("/publicity"));
+        assertEquals(PathKind.PROTECTED, classifier.classify("/actuator/health/liveness"));
+        assertEquals(PathKind.PROTECTED, classifier.classify("/api/authorization"));
+        assertEquals(PathKind.PROTECTED, classifier.classify(null));
+    }
+
+    @Test
+    void loginAndAdminPagesKeepTheirOwnKinds() {
+        assertEquals(PathKind.LOGIN, classifier.classify("/admin/login"));
+        assertEquals(PathKind.ADMIN, classifier.classify("/admin"));
+        assertEquals(PathKind.ADMIN, classifier.classify("/admin/users/7/edit"));
+    }
+
+    @Test
+    void rejectsPatternsItCannotMatchLiterally() {
+        assertThrows(IllegalArgumentException.class,
+            () -> new RequestPathClassifier(new String[] {"/assets/*.css"}, "/login", "/admin"));
+        assertThrows(IllegalArgumentException.class,
+            () -> new RequestPathClassifier(new String[] {"/files/{id}"}, "/login", "/admin"));
+    }
+}
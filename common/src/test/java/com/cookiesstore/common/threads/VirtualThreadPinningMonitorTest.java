@@ -0,0 +1,42 @@
+package com.cookiesstore.common.threads;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class VirtualThreadPinningMonitorTest {
+
+    private final Object monitor = new Object();
+
+    @Test
+    void reportsVirtualThreadBlockedInsideSynchronizedBlock() throws Exception {
+        PinningDiagnosticsProperties properties = new PinningDiagnosticsProperties();
+        properties.setThreshold(Duration.ofMillis(5));
+        VirtualThreadPinningMonitor pinningMonitor = new VirtualThreadPinningMonitor(properties);
+        pinningMonitor.afterPropertiesSet();
+        try {
+            Thread.ofVirtual().start(this::sleepWhileHoldingMonitor).join();
+
+            long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+            while (pinningMonitor.ownCodePinnedEvents() == 0 && System.nanoTime() < deadline) {
+                Thread.sleep(50);
+            }
+
+            assertTrue(pinningMonitor.pinnedEvents() >= 1);
+            assertTrue(pinningMonitor.ownCodePinnedEvents() >= 1);
+        } finally {
+            pinningMonitor.destroy();
+        }
+    }
+
+    private void sleepWhileHoldingMonitor() {
+        synchronized (monitor) {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
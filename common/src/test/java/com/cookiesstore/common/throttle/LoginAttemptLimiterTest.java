@@ -0,0 +1,71 @@
+package com.cookiesstore.common.throttle;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.cookiesstore.common.api.TooManyRequestsException;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+class LoginAttemptLimiterTest {
+
+    @Test
+    void slidingWindowCarriesWeightedPreviousWindow() {
+        LocalSlidingWindowStore store = new LocalSlidingWindowStore(Duration.ofSeconds(10), 100);
+
+        for (int i = 0; i < 4; i++) {
+            assertTrue(store.tryAcquire("k", 4, 1_000L));
+        }
+        assertFalse(store.tryAcquire("k", 4, 9_000L));
+
+        // 25% into the next window the previous four still weigh as three.
+        assertTrue(store.tryAcquire("k", 4, 12_500L));
+        assertFalse(store.tryAcquire("k", 4, 12_500L));
+
+        // Two full windows later nothing is carried over.
+        assertTrue(store.tryAcquire("k", 4, 30_000L));
+    }
+
+    @Test
+    void emailLimitBlocksAndSuccessClearsIt() {
+        LoginAttemptLimiter limiter = limiter(2, 100);
+
+        limiter.checkAttempt("Admin@Cookies.dev", "10.0.0.1");
+        limiter.checkAttempt("admin@cookies.dev", "10.0.0.2");
+        TooManyRequestsException rejected = assertThrows(
+            TooManyRequestsException.class,
+            () -> limiter.checkAttempt("admin@cookies.dev", "10.0.0.3")
+        );
+        assertEquals(Duration.ofMinutes(1), rejected.getRetryAfter());
+        assertEquals(1, limiter.blockedByEmail());
+
+        limiter.recordSuccess("admin@cookies.dev");
+        assertDoesNotThrow(() -> limiter.checkAttempt("admin@cookies.dev", "10.0.0.4"));
+    }
+
+    @Test
+    void ipLimitSpansEmails() {
+        LoginAttemptLimiter limiter = limiter(100, 2);
+
+        limiter.checkAttempt("a@cookies.dev", "10.0.0.9");
+        limiter.checkAttempt("b@cookies.dev", "10.0.0.9");
+
+        assertThrows(TooManyRequestsException.class, () -> limiter.checkAttempt("c@cookies.dev", "10.0.0.9"));
+        assertEquals(1, limiter.blockedByIp());
+        assertEquals(0, limiter.blockedByEmail());
+    }
+
+    private LoginAttemptLimiter limiter(int perEmail, int perIp) {
+        LoginThrottleProperties properties = new LoginThrottleProperties();
+        properties.setMaxAttemptsPerEmail(perEmail);
+        properties.setMaxAttemptsPerIp(perIp);
+        ObjectProvider<StringRedisTemplate> noRedis = new StaticListableBeanFactory().getBeanProvider(StringRedisTemplate.class);
+        return new LoginAttemptLimiter(properties, noRedis);
+    }
+}